@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import io.github.chrimle.semver.SemVer;
+
+/**
+ * Exposes the {@code protected} stages of {@link AbstractBuilder#commit(SemVer)} to the benchmarks.
+ * Declared in the {@code package} of {@link AbstractBuilder}, as the benchmarks run on the
+ * class-path.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+public final class BuilderStages {
+
+  private BuilderStages() {}
+
+  /**
+   * Generates the {@link Model} of the <em>currently uncommitted</em> class.
+   *
+   * @param builder of the class.
+   * @param semVer for the new class.
+   * @return the {@code Model}.
+   */
+  public static Model generateModel(final AbstractBuilder<?> builder, final SemVer semVer) {
+    return builder.generateModel(semVer);
+  }
+
+  /**
+   * Renders the source code of the {@code model}, as the {@code builder} does when committing.
+   *
+   * @param builder of the class.
+   * @param model of the class.
+   * @return the file content.
+   */
+  public static String generateCodeFromModel(final AbstractBuilder<?> builder, final Model model) {
+    return builder.generateCodeFromModel(model);
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.benchmarks;
+
+import io.github.chrimle.classforge.enums.EnumModel;
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Shared fixtures of the benchmarks.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+final class BenchmarkSupport {
+
+  /** The {@code package}-name of every generated class. */
+  static final String PACKAGE_NAME = "io.github.chrimle.classforge.generated";
+
+  /** The {@code className} of every generated class. */
+  static final String CLASS_NAME = "BenchmarkEnum";
+
+  private BenchmarkSupport() {}
+
+  /**
+   * Creates {@code enumSize} distinct, valid enum constant names.
+   *
+   * @param enumSize of the enum class.
+   * @return the enum constant names.
+   */
+  static String[] enumConstantNames(final int enumSize) {
+    final var enumConstantNames = new String[enumSize];
+    for (int i = 0; i < enumSize; i++) {
+      enumConstantNames[i] = "CONSTANT_" + i;
+    }
+    return enumConstantNames;
+  }
+
+  /**
+   * Creates an {@link EnumModel} of the {@code enumConstantNames}, as built by {@code
+   * EnumBuilder}.
+   *
+   * @param enumConstantNames of the enum class.
+   * @param members of the enum class.
+   * @return the model.
+   */
+  static EnumModel<Object> enumModel(final String[] enumConstantNames, final List<String> members) {
+    final List<EnumConstantModel<Object>> enumConstantModels =
+        new ArrayList<>(enumConstantNames.length);
+    for (int wireId = 0; wireId < enumConstantNames.length; wireId++) {
+      enumConstantModels.add(new EnumConstantModel<>(enumConstantNames[wireId], List.of(), wireId));
+    }
+    return new EnumModel<>(PACKAGE_NAME, CLASS_NAME, List.copyOf(enumConstantModels), members);
+  }
+
+  /**
+   * Creates a temporary directory for generated files.
+   *
+   * @return the directory.
+   */
+  static Path createTempDirectory() {
+    try {
+      return Files.createTempDirectory("class-forge-benchmarks");
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Deletes the {@code directory} and all of its contents.
+   *
+   * @param directory to delete.
+   */
+  static void deleteRecursively(final Path directory) {
+    try (final Stream<Path> paths = Files.walk(directory)) {
+      for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.benchmarks;
+
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code AbstractBuilder.commit()} <em>end to end</em> - from validating the
+ * <em>currently uncommitted</em> class, to writing the {@code .java} file.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CommitBenchmark {
+
+  @Param({"10", "100", "1000"})
+  int enumSize;
+
+  @Param({"1", "10"})
+  int versionCount;
+
+  @Param({"NONE", "CLASS_NAME_SUFFIX", "PACKAGE_NAME_SUFFIX"})
+  VersionPlacement versionPlacement;
+
+  private Path directory;
+  private String[] enumConstantNames;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    directory = BenchmarkSupport.createTempDirectory();
+    enumConstantNames = BenchmarkSupport.enumConstantNames(enumSize);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    BenchmarkSupport.deleteRecursively(directory);
+  }
+
+  /**
+   * Commits {@code versionCount} versions of an enum class, each adding one enum constant. With
+   * {@link VersionPlacement#NONE}, every version is committed under its own {@code className}, as
+   * the <em>Fully Qualified Class Name</em> of each version must be unique.
+   *
+   * @return the builder.
+   */
+  @Benchmark
+  public EnumBuilder commitEnumClass() {
+    final var enumBuilder =
+        ((EnumBuilder) ClassForge.newEnumBuilder())
+            .updateDirectory(directory.toString())
+            .updatePackageName(BenchmarkSupport.PACKAGE_NAME)
+            .updateClassName(BenchmarkSupport.CLASS_NAME)
+            .setVersionPlacement(versionPlacement)
+            .addEnumConstants(enumConstantNames);
+    for (int version = 1; version <= versionCount; version++) {
+      if (version > 1) {
+        enumBuilder.addEnumConstants("VERSION_" + version);
+      }
+      if (versionPlacement == VersionPlacement.NONE) {
+        enumBuilder.updateClassName(BenchmarkSupport.CLASS_NAME + version);
+      }
+      enumBuilder.commit();
+    }
+    return enumBuilder;
+  }
+}
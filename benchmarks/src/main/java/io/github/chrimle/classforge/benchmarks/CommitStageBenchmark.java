@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.benchmarks;
+
+import io.github.chrimle.classforge.BuilderStages;
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import io.github.chrimle.classforge.Model;
+import io.github.chrimle.classforge.ValidationResult;
+import io.github.chrimle.classforge.internal.FileWriter;
+import io.github.chrimle.semver.SemVer;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks each <em>stage</em> of {@code AbstractBuilder.commit()} on its own: validation, model
+ * construction, rendering and writing. Every stage is driven on an {@link EnumBuilder} prepared in
+ * advance, hence the sum of the stages is comparable to {@link CommitBenchmark}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CommitStageBenchmark {
+
+  private static final SemVer SEM_VER = new SemVer(1, 0, 0);
+
+  @Param({"10", "100", "1000"})
+  int enumSize;
+
+  private Path directory;
+  private String[] enumConstantNames;
+  private EnumBuilder emptyEnumBuilder;
+  private EnumBuilder enumBuilder;
+  private Model model;
+  private String[] fileContents;
+  private int writeCount;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    directory = BenchmarkSupport.createTempDirectory();
+    enumConstantNames = BenchmarkSupport.enumConstantNames(enumSize);
+    emptyEnumBuilder = (EnumBuilder) ClassForge.newEnumBuilder();
+    enumBuilder =
+        ((EnumBuilder) ClassForge.newEnumBuilder())
+            .updateDirectory(directory.toString())
+            .updatePackageName(BenchmarkSupport.PACKAGE_NAME)
+            .updateClassName(BenchmarkSupport.CLASS_NAME)
+            .addEnumConstants(enumConstantNames);
+    model = BuilderStages.generateModel(enumBuilder, SEM_VER);
+    final String fileContent = BuilderStages.generateCodeFromModel(enumBuilder, model);
+    // Alternating contents of equal length, so that every write replaces the file content
+    fileContents = new String[] {fileContent + "\n", fileContent + " "};
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    BenchmarkSupport.deleteRecursively(directory);
+  }
+
+  /**
+   * Validates the directory, {@code package}-name and {@code className} of the builder, as {@code
+   * commit()} does before rendering.
+   *
+   * @return the validation result.
+   */
+  @Benchmark
+  public ValidationResult validate() {
+    return enumBuilder.validate();
+  }
+
+  /**
+   * Validates every enum constant name, as {@link EnumBuilder#addEnumConstants(String...)} does.
+   *
+   * @return the validation result.
+   */
+  @Benchmark
+  public ValidationResult validateEnumConstants() {
+    return emptyEnumBuilder.validateEnumConstants(enumConstantNames);
+  }
+
+  /**
+   * Constructs the {@link Model} of the builder, as {@code commit()} does.
+   *
+   * @return the model.
+   */
+  @Benchmark
+  public Model constructModel() {
+    return BuilderStages.generateModel(enumBuilder, SEM_VER);
+  }
+
+  /**
+   * Renders the {@link Model}, as {@code commit()} does.
+   *
+   * @return the file content.
+   */
+  @Benchmark
+  public String render() {
+    return BuilderStages.generateCodeFromModel(enumBuilder, model);
+  }
+
+  /**
+   * Writes the rendered file content via {@link FileWriter#writeToFile(String, String, String)}.
+   * The written content alternates between invocations, hence every invocation writes the file.
+   *
+   * @return whether the file was written.
+   */
+  @Benchmark
+  public boolean write() {
+    return FileWriter.writeToFile(
+        directory.toString(),
+        BenchmarkSupport.PACKAGE_NAME + "." + BenchmarkSupport.CLASS_NAME,
+        fileContents[writeCount++ & 1]);
+  }
+}
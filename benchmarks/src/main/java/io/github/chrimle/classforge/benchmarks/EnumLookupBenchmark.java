@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.benchmarks;
+
+import io.github.chrimle.classforge.compiler.InMemoryCompiler;
+import io.github.chrimle.classforge.enums.DeserializingMethod;
+import io.github.chrimle.classforge.enums.MatchingStrategy;
+import io.github.chrimle.classforge.enums.NoMatchStrategy;
+import io.github.chrimle.classforge.enums.NullStrategy;
+import io.github.chrimle.classforge.internal.JavaTemplateEngine;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the generated {@code fromValue(String)} method of an enum class, for every
+ * combination of {@link MatchingStrategy}, {@link NoMatchStrategy} and {@link NullStrategy}. The
+ * enum class is generated from the {@link DeserializingMethod}, and compiled <em>in memory</em>.
+ *
+ * <p><strong>NOTE:</strong> {@code javac} rejects enum classes with more than roughly 5000 enum
+ * constants, as the static initializer exceeds the 64 KiB code limit.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumLookupBenchmark {
+
+  /** The kind of {@code value} passed to {@code fromValue(String)}. */
+  public enum Input {
+    /** The {@code name} of the enum constant in the middle of the enum class. */
+    HIT,
+    /** A {@code value} which does not match any enum constant. */
+    MISS,
+    /** {@code null}. */
+    NULL
+  }
+
+  private static final String LOOKUP_CLASS_NAME = "BenchmarkLookup";
+
+  @Param({"4", "64", "1024", "4096"})
+  int enumSize;
+
+  @Param({"EXACT_NAME", "CASE_INSENSITIVE_NAME"})
+  MatchingStrategy matchingStrategy;
+
+  @Param({"FALLBACK", "NULL", "THROW"})
+  NoMatchStrategy noMatchStrategy;
+
+  @Param({"FALLBACK", "NULL", "THROW"})
+  NullStrategy nullStrategy;
+
+  @Param({"HIT", "MISS", "NULL"})
+  Input input;
+
+  private Function<String, Object> fromValue;
+  private String value;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() throws ReflectiveOperationException {
+    final String[] enumConstantNames = BenchmarkSupport.enumConstantNames(enumSize);
+    final String methodCode =
+        new DeserializingMethod(matchingStrategy, noMatchStrategy, nullStrategy)
+            .generateMethodCode(BenchmarkSupport.CLASS_NAME, enumConstantNames[0]);
+    final String enumSource =
+        JavaTemplateEngine.generateModelAsString(
+                BenchmarkSupport.enumModel(enumConstantNames, List.of(methodCode)))
+            .toString();
+    // Invokes `fromValue` statically, rather than reflectively
+    final String lookupSource =
+        """
+        package %1$s;
+
+        public final class %2$s implements java.util.function.Function<String, Object> {
+          @Override
+          public Object apply(final String value) {
+            return %3$s.fromValue(value);
+          }
+        }
+        """
+            .formatted(
+                BenchmarkSupport.PACKAGE_NAME, LOOKUP_CLASS_NAME, BenchmarkSupport.CLASS_NAME);
+    final Map<String, Class<?>> classes;
+    try (final var compiler = new InMemoryCompiler()) {
+      classes =
+          compiler.compile(
+              Map.of(
+                  BenchmarkSupport.PACKAGE_NAME + "." + BenchmarkSupport.CLASS_NAME, enumSource,
+                  BenchmarkSupport.PACKAGE_NAME + "." + LOOKUP_CLASS_NAME, lookupSource));
+    }
+    fromValue =
+        (Function<String, Object>)
+            classes
+                .get(BenchmarkSupport.PACKAGE_NAME + "." + LOOKUP_CLASS_NAME)
+                .getConstructor()
+                .newInstance();
+    value =
+        switch (input) {
+          case HIT -> enumConstantNames[enumSize / 2];
+          case MISS -> "NOT_AN_ENUM_CONSTANT";
+          case NULL -> null;
+        };
+  }
+
+  /**
+   * Invokes {@code fromValue(String)}. A thrown exception is returned, as its cost is part of the
+   * {@link NoMatchStrategy#THROW} and {@link NullStrategy#THROW} strategies.
+   *
+   * @return the enum constant, {@code null} or the thrown exception.
+   */
+  @Benchmark
+  public Object fromValue() {
+    try {
+      return fromValue.apply(value);
+    } catch (final RuntimeException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.maven;
+
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.Definition;
+import io.github.chrimle.classforge.GenerationRun;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Runs ClassForge {@link Definition}s, and loads ClassForge schemas - see {@link
+ * ClassForge#loadSchema(Path, java.util.function.Consumer)} - during {@code generate-sources}, and
+ * adds the {@code outputDirectory} as a compile source root.
+ *
+ * <p>A run is skipped if it is <em>up to date</em> - i.e. if the hash of its inputs is unchanged
+ * since the previous run, and each output recorded by its <em>generation manifest</em> still
+ * exists. The inputs are the configuration, the code of ClassForge and of each definition, the
+ * schemas, and the configured {@code inputs}. Otherwise, the definitions and schemas are run in
+ * parallel, and the stale outputs of the previous run are pruned.
+ *
+ * <p><strong>NOTE:</strong> definitions are loaded from the compile class path, which - during
+ * {@code generate-sources} - only consists of the dependencies of the project.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@Mojo(
+    name = "generate",
+    defaultPhase = LifecyclePhase.GENERATE_SOURCES,
+    requiresDependencyResolution = ResolutionScope.COMPILE,
+    threadSafe = true)
+public final class GenerateMojo extends AbstractMojo {
+
+  /** The file name of the input hash of the previous run, in the {@code stateDirectory}. */
+  static final String INPUT_HASH_FILE_NAME = "input-hash";
+
+  @Parameter(defaultValue = "${project}", readonly = true, required = true)
+  private MavenProject project;
+
+  /** The <em>Fully Qualified Class Names</em> of the {@link Definition}s to run. */
+  @Parameter private List<String> definitions;
+
+  /** The JSON schema files to load, each generating a single class. */
+  @Parameter private List<File> schemas;
+
+  /** The files and directories read by the definitions, which are part of the input hash. */
+  @Parameter private List<File> inputs;
+
+  /** The directory to generate classes in. */
+  @Parameter(
+      defaultValue = "${project.build.directory}/generated-sources/class-forge",
+      required = true)
+  private File outputDirectory;
+
+  /** The directory of the input hash of the previous run. */
+  @Parameter(defaultValue = "${project.build.directory}/class-forge", required = true)
+  private File stateDirectory;
+
+  /**
+   * The maximum number of definitions and schemas run in parallel, or {@code 0} for one per
+   * processor.
+   */
+  @Parameter(property = "classForge.threads", defaultValue = "0")
+  private int threads;
+
+  /** Whether to run the definitions and schemas, even if up to date. */
+  @Parameter(property = "classForge.force", defaultValue = "false")
+  private boolean force;
+
+  /** Whether to skip the execution. */
+  @Parameter(property = "classForge.skip", defaultValue = "false")
+  private boolean skip;
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (skip) {
+      getLog().info("Skipping ClassForge");
+      return;
+    }
+    final String directory = outputDirectory.getAbsolutePath();
+    project.addCompileSourceRoot(directory);
+
+    try (final URLClassLoader classLoader = createClassLoader()) {
+      final List<Class<? extends Definition>> definitionClasses =
+          loadDefinitionClasses(classLoader);
+      final String inputHash = computeInputHash(definitionClasses);
+      final Path inputHashFile = stateDirectory.toPath().resolve(INPUT_HASH_FILE_NAME);
+      if (!force && isUpToDate(directory, inputHashFile, inputHash)) {
+        getLog().info("ClassForge outputs are up to date");
+        return;
+      }
+
+      // A failed run must never be considered up to date.
+      Files.deleteIfExists(inputHashFile);
+      final long start = System.nanoTime();
+      final Map<String, Callable<Void>> tasks = new LinkedHashMap<>();
+      final List<Path> prunedFiles;
+      try (final GenerationRun generationRun = ClassForge.startRun(directory)) {
+        for (final Class<? extends Definition> definitionClass : definitionClasses) {
+          tasks.put(
+              "Definition `%s`".formatted(definitionClass.getName()),
+              runDefinition(definitionClass, generationRun, classLoader));
+        }
+        for (final File schema : schemas != null ? schemas : List.<File>of()) {
+          tasks.put("Schema `%s`".formatted(schema), loadSchema(schema, generationRun));
+        }
+        runTasks(tasks);
+        prunedFiles = generationRun.pruneStaleOutputs();
+      }
+      getLog()
+          .info(
+              "Ran %d ClassForge task(s) in %d ms, and pruned %d stale output(s)"
+                  .formatted(
+                      tasks.size(),
+                      (System.nanoTime() - start) / 1_000_000,
+                      prunedFiles.size()));
+      writeInputHash(inputHashFile, inputHash);
+    } catch (final IOException e) {
+      throw new MojoExecutionException("ClassForge run failed", e);
+    }
+  }
+
+  private URLClassLoader createClassLoader() throws MojoExecutionException {
+    final List<URL> urls = new ArrayList<>();
+    try {
+      for (final String element : project.getCompileClasspathElements()) {
+        urls.add(new File(element).toURI().toURL());
+      }
+    } catch (final DependencyResolutionRequiredException | MalformedURLException e) {
+      throw new MojoExecutionException("Could not resolve the compile class path", e);
+    }
+    return new URLClassLoader(urls.toArray(URL[]::new), getClass().getClassLoader());
+  }
+
+  private List<Class<? extends Definition>> loadDefinitionClasses(final ClassLoader classLoader)
+      throws MojoExecutionException {
+    if ((definitions == null || definitions.isEmpty()) && (schemas == null || schemas.isEmpty())) {
+      throw new MojoExecutionException("No ClassForge definitions or schemas configured");
+    }
+    final List<Class<? extends Definition>> definitionClasses = new ArrayList<>();
+    for (final String definition : definitions != null ? definitions : List.<String>of()) {
+      final Class<?> definitionClass;
+      try {
+        definitionClass = Class.forName(definition, false, classLoader);
+      } catch (final ClassNotFoundException e) {
+        throw new MojoExecutionException(
+            "Definition `%s` is not on the compile class path".formatted(definition), e);
+      }
+      if (!Definition.class.isAssignableFrom(definitionClass)) {
+        throw new MojoExecutionException(
+            "Definition `%s` does not implement `%s`"
+                .formatted(definition, Definition.class.getName()));
+      }
+      definitionClasses.add(definitionClass.asSubclass(Definition.class));
+    }
+    return definitionClasses;
+  }
+
+  private String computeInputHash(final List<Class<? extends Definition>> definitionClasses)
+      throws IOException {
+    final var inputHash = new InputHash().add(outputDirectory.getAbsolutePath());
+    addCode(inputHash, ClassForge.class);
+    for (final Class<? extends Definition> definitionClass : definitionClasses) {
+      inputHash.add(definitionClass.getName());
+      addCode(inputHash, definitionClass);
+    }
+    if (schemas != null) {
+      for (final File schema : schemas) {
+        inputHash.add(schema.getAbsolutePath()).addPath(schema.toPath());
+      }
+    }
+    if (inputs != null) {
+      for (final File input : inputs) {
+        inputHash.add(input.getAbsolutePath()).addPath(input.toPath());
+      }
+    }
+    return inputHash.toHexString();
+  }
+
+  /**
+   * Adds the code of the {@code clazz} to the {@code inputHash} - i.e. its entire JAR file or
+   * class directory, as it <strong>MAY</strong> depend on any class within it.
+   */
+  private static void addCode(final InputHash inputHash, final Class<?> clazz) throws IOException {
+    final CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+    if (codeSource != null && codeSource.getLocation() != null) {
+      try {
+        inputHash.addPath(Path.of(codeSource.getLocation().toURI()));
+        return;
+      } catch (final URISyntaxException | IllegalArgumentException e) {
+        // Not a local file, hence only the class itself is added.
+      }
+    }
+    final String className = clazz.getName();
+    final InputStream classFile =
+        clazz.getResourceAsStream(className.substring(className.lastIndexOf('.') + 1) + ".class");
+    if (classFile != null) {
+      inputHash.addContent(classFile);
+    }
+  }
+
+  private boolean isUpToDate(
+      final String directory, final Path inputHashFile, final String inputHash)
+      throws IOException {
+    if (!Files.isRegularFile(inputHashFile)
+        || !inputHash.equals(Files.readString(inputHashFile, StandardCharsets.UTF_8).strip())) {
+      return false;
+    }
+    final List<Path> outputs = ClassForge.getGeneratedOutputs(directory);
+    for (final Path output : outputs) {
+      if (!Files.isRegularFile(output)) {
+        getLog().debug("ClassForge output `%s` is missing".formatted(output));
+        return false;
+      }
+    }
+    return !outputs.isEmpty();
+  }
+
+  private void runTasks(final Map<String, Callable<Void>> tasks) throws MojoExecutionException {
+    final int parallelism =
+        Math.min(tasks.size(), threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+    final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    try {
+      final Map<String, Future<Void>> futures = new LinkedHashMap<>();
+      for (final Map.Entry<String, Callable<Void>> task : tasks.entrySet()) {
+        futures.put(task.getKey(), executor.submit(task.getValue()));
+      }
+      for (final Map.Entry<String, Future<Void>> future : futures.entrySet()) {
+        try {
+          future.getValue().get();
+        } catch (final ExecutionException e) {
+          throw new MojoExecutionException("%s failed".formatted(future.getKey()), e.getCause());
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("ClassForge run was interrupted", e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private Callable<Void> runDefinition(
+      final Class<? extends Definition> definitionClass,
+      final GenerationRun generationRun,
+      final ClassLoader classLoader) {
+    return () -> {
+      final Thread thread = Thread.currentThread();
+      final ClassLoader contextClassLoader = thread.getContextClassLoader();
+      thread.setContextClassLoader(classLoader);
+      try {
+        final long start = System.nanoTime();
+        definitionClass.getConstructor().newInstance().define(generationRun);
+        getLog()
+            .debug(
+                "Ran ClassForge definition `%s` in %d ms"
+                    .formatted(definitionClass.getName(), (System.nanoTime() - start) / 1_000_000));
+      } finally {
+        thread.setContextClassLoader(contextClassLoader);
+      }
+      return null;
+    };
+  }
+
+  private Callable<Void> loadSchema(final File schema, final GenerationRun generationRun) {
+    return () -> {
+      final long start = System.nanoTime();
+      ClassForge.loadSchema(schema.toPath(), builder -> builder.setGenerationRun(generationRun));
+      getLog()
+          .debug(
+              "Loaded ClassForge schema `%s` in %d ms"
+                  .formatted(schema, (System.nanoTime() - start) / 1_000_000));
+      return null;
+    };
+  }
+
+  private static void writeInputHash(final Path inputHashFile, final String inputHash)
+      throws IOException {
+    Files.createDirectories(inputHashFile.getParent());
+    final Path temporaryFile =
+        Files.createTempFile(inputHashFile.getParent(), INPUT_HASH_FILE_NAME, ".tmp");
+    Files.writeString(temporaryFile, inputHash, StandardCharsets.UTF_8);
+    try {
+      Files.move(
+          temporaryFile,
+          inputHashFile,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final AtomicMoveNotSupportedException e) {
+      Files.move(temporaryFile, inputHashFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * SHA-256 hash of the inputs of a run. Each value is delimited by its length, hence distinct
+ * sequences of values never share the same encoding.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+final class InputHash {
+
+  private final MessageDigest digest;
+  private final byte[] buffer = new byte[8192];
+
+  /** Constructor. */
+  InputHash() {
+    try {
+      this.digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Adds the {@code value}.
+   *
+   * @param value to add.
+   * @return <em>this</em> {@code InputHash}.
+   */
+  InputHash add(final String value) {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+    digest.update(bytes);
+    return this;
+  }
+
+  /**
+   * Adds the content of the file at {@code path} - or of every file in the directory at {@code
+   * path}, and their relative paths.
+   *
+   * @param path of a file or directory.
+   * @return <em>this</em> {@code InputHash}.
+   * @throws IOException if a file could not be read.
+   */
+  InputHash addPath(final Path path) throws IOException {
+    if (Files.isRegularFile(path)) {
+      return add("file").addContent(path);
+    }
+    if (!Files.isDirectory(path)) {
+      return add("missing");
+    }
+    final List<Path> files;
+    try (final Stream<Path> paths = Files.walk(path)) {
+      files = paths.filter(Files::isRegularFile).sorted().toList();
+    }
+    add("directory").add(String.valueOf(files.size()));
+    for (final Path file : files) {
+      add(path.relativize(file).toString().replace('\\', '/')).addContent(file);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the content of the {@code inputStream}, and closes it.
+   *
+   * @param inputStream to add.
+   * @return <em>this</em> {@code InputHash}.
+   * @throws IOException if the {@code inputStream} could not be read.
+   */
+  InputHash addContent(final InputStream inputStream) throws IOException {
+    long length = 0;
+    try (inputStream) {
+      for (int read; (read = inputStream.read(buffer)) >= 0; ) {
+        digest.update(buffer, 0, read);
+        length += read;
+      }
+    }
+    digest.update(ByteBuffer.allocate(Long.BYTES).putLong(length).array());
+    return this;
+  }
+
+  /**
+   * Returns the hash of every added value, as a hexadecimal string.
+   *
+   * @return the hash.
+   */
+  String toHexString() {
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private InputHash addContent(final Path file) throws IOException {
+    return addContent(Files.newInputStream(file));
+  }
+}
@@ -15,12 +15,32 @@
  */
 package io.github.chrimle.classforge;
 
+import io.github.chrimle.classforge.ValidationResult.Rule;
+import io.github.chrimle.classforge.ValidationResult.Violation;
+import io.github.chrimle.classforge.internal.ClassFileEmitter;
 import io.github.chrimle.classforge.internal.ExceptionFactory;
 import io.github.chrimle.classforge.internal.FileWriter;
+import io.github.chrimle.classforge.internal.GenerationEvent;
+import io.github.chrimle.classforge.internal.IdentifierValidator;
 import io.github.chrimle.classforge.internal.JavaTemplateEngine;
+import io.github.chrimle.classforge.internal.Journal;
+import io.github.chrimle.classforge.internal.Journal.Entry;
+import io.github.chrimle.classforge.internal.RenderCache;
+import io.github.chrimle.classforge.internal.SemVerParser;
+import io.github.chrimle.classforge.metrics.GenerationListener;
+import io.github.chrimle.classforge.metrics.GenerationMetrics;
 import io.github.chrimle.semver.Change;
 import io.github.chrimle.semver.SemVer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -41,16 +61,10 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   private static final Predicate<@Nullable String> directoryValidator =
       string -> Optional.ofNullable(string).isPresent();
   private static final Predicate<@Nullable String> classNameValidator =
-      string ->
-          Optional.ofNullable(string)
-              .filter(className -> className.matches(ClassForge.VALID_CLASS_NAME_REGEX))
-              .isPresent();
+      IdentifierValidator::isValidClassName;
   private static final Predicate<@Nullable String> packageNameValidator =
       string ->
-          Optional.ofNullable(string)
-              .filter(packageName -> !packageName.isBlank())
-              .map(packageName -> packageName.matches(ClassForge.VALID_PACKAGE_NAME_REGEX))
-              .orElse(true);
+          string == null || string.isBlank() || IdentifierValidator.isValidPackageName(string);
 
   /** The collection of <em>previously committed</em> classes. */
   protected final Set<String> reservedClassNames = new HashSet<>();
@@ -64,6 +78,12 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   /** The {@code versionPlacement} of the <em>currently uncommitted</em> class. */
   protected VersionPlacement versionPlacement = VersionPlacement.NONE;
 
+  /** The enabled {@code features} of the <em>currently uncommitted</em> class. */
+  protected final Set<Feature> features = EnumSet.noneOf(Feature.class);
+
+  /** The {@code generationListeners}, invoked on each <em>commit</em>. */
+  private final List<GenerationListener> generationListeners = new ArrayList<>();
+
   /** The {@code directory} of the <em>currently uncommitted</em> class. */
   protected @Nullable String directory;
 
@@ -73,6 +93,46 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   /** The {@code className} of the <em>currently uncommitted</em> class. */
   protected @Nullable String className;
 
+  /** The state of the <em>previously committed</em> class, or {@code null} if none. */
+  private @Nullable CommittedState committedState;
+
+  /** The {@code outputSink} of committed classes, or {@code null} to write to {@code directory}. */
+  private @Nullable OutputSink outputSink;
+
+  /** The {@code classFileSink} of committed classes, or {@code null} to render source code. */
+  private @Nullable ClassFileSink classFileSink;
+
+  /** The {@code renderCache}, or {@code null} if disabled. */
+  private @Nullable RenderCache renderCache;
+
+  /** The {@code generationRun} of committed classes, or {@code null} if not recorded. */
+  private @Nullable GenerationRun generationRun;
+
+  /**
+   * The classes written to a {@code directory} while journaled - or restored from the {@code
+   * journal} - by {@code directory}. Recorded in each snapshot, hence retained by a {@link
+   * GenerationRun} after resuming.
+   */
+  private final Map<String, List<String>> committedOutputs = new HashMap<>();
+
+  /** The {@code journal} of each changeset, or {@code null} if not journaled. */
+  private @Nullable Journal journal;
+
+  /** The {@code classType} recorded in the {@code journal}. */
+  private @Nullable String journalClassType;
+
+  /**
+   * The state of the <em>previously committed</em> class, for determining the {@link Change} of
+   * the <em>currently uncommitted</em> class.
+   */
+  private record CommittedState(
+      @Nullable String directory,
+      @Nullable String packageName,
+      @Nullable String className,
+      VersionFormat versionFormat,
+      VersionPlacement versionPlacement,
+      Set<Feature> features) {}
+
   /** {@inheritDoc} */
   @Override
   public SemVer getSemVer() {
@@ -88,6 +148,7 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
       throw ExceptionFactory.nullException("semVer");
     }
     this.semVer = semVer;
+    journal("semVer", semVer.toCompleteVersionString());
     return self();
   }
 
@@ -100,6 +161,7 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
       throw ExceptionFactory.nullException("versionFormat");
     }
     this.versionFormat = versionFormat;
+    journal("versionFormat", versionFormat.name());
     return self();
   }
 
@@ -112,6 +174,123 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
       throw ExceptionFactory.nullException("versionPlacement");
     }
     this.versionPlacement = versionPlacement;
+    journal("versionPlacement", versionPlacement.name());
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings("Contract")
+  public T enableFeatures(final Feature... features) {
+    validateFeatures(features);
+    for (final Feature feature : features) {
+      if (!isFeatureSupported(feature)) {
+        throw ExceptionFactory.notSupportedException("feature", feature.name());
+      }
+    }
+    this.features.addAll(Arrays.asList(features));
+    journal("enableFeatures", featureNames(features));
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings("Contract")
+  public T disableFeatures(final Feature... features) {
+    validateFeatures(features);
+    Arrays.asList(features).forEach(this.features::remove);
+    journal("disableFeatures", featureNames(features));
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"Contract", "ConstantValue"})
+  public T addGenerationListener(final GenerationListener generationListener) {
+    if (generationListener == null) {
+      throw ExceptionFactory.nullException("generationListener");
+    }
+    generationListeners.add(generationListener);
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"Contract", "ConstantValue"})
+  public T removeGenerationListener(final GenerationListener generationListener) {
+    if (generationListener == null) {
+      throw ExceptionFactory.nullException("generationListener");
+    }
+    generationListeners.remove(generationListener);
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"Contract", "ConstantValue"})
+  public T setOutputSink(final OutputSink outputSink) {
+    if (outputSink == null) {
+      throw ExceptionFactory.nullException("outputSink");
+    }
+    this.outputSink = outputSink;
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"Contract", "ConstantValue"})
+  public T setClassFileSink(final ClassFileSink classFileSink) {
+    if (classFileSink == null) {
+      throw ExceptionFactory.nullException("classFileSink");
+    }
+    this.classFileSink = classFileSink;
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"Contract", "ConstantValue"})
+  public T setGenerationRun(final GenerationRun generationRun) {
+    if (generationRun == null) {
+      throw ExceptionFactory.nullException("generationRun");
+    }
+    updateDirectory(generationRun.getDirectory());
+    this.generationRun = generationRun;
+    committedOutputs.forEach(
+        (outputDirectory, fullyQualifiedClassNames) -> {
+          if (generationRun.isDirectoryOf(outputDirectory)) {
+            for (final String fullyQualifiedClassName : fullyQualifiedClassNames) {
+              generationRun.recordOutput(outputDirectory, fullyQualifiedClassName);
+            }
+          }
+        });
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract("null -> fail; _ -> this")
+  @SuppressWarnings({"Contract", "ConstantValue"})
+  public T enableRenderCache(final Path cacheDirectory) {
+    if (cacheDirectory == null) {
+      throw ExceptionFactory.nullException("cacheDirectory");
+    }
+    renderCache = new RenderCache(cacheDirectory);
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @Contract(" -> this")
+  public T disableRenderCache() {
+    renderCache = null;
     return self();
   }
 
@@ -122,6 +301,7 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   public T updateDirectory(final String directory) {
     validateDirectory(directory);
     this.directory = directory;
+    journal("directory", directory);
     return self();
   }
 
@@ -132,6 +312,7 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   public T updatePackageName(final String packageName) {
     validatePackageName(packageName);
     this.packageName = packageName;
+    journal("packageName", packageName);
     return self();
   }
 
@@ -142,50 +323,408 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   public T updateClassName(final String className) {
     validateClassName(className);
     this.className = className;
+    journal("className", className);
     return self();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public boolean hasUncommittedChanges() {
+    return determineSemVerChange() != null || isRelocated();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void closeJournal() {
+    final Journal currentJournal = journal;
+    if (currentJournal != null) {
+      journal = null;
+      journalClassType = null;
+      currentJournal.close();
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   @Contract(" -> this")
   public T commit() {
-    return commit(determineSemVerChange());
+    final Change change = determineSemVerChange();
+    if (change != null) {
+      return commit(change);
+    }
+    if (isRelocated()) {
+      return commit(semVer, true);
+    }
+    return self();
   }
 
   /** {@inheritDoc} */
   @Override
   @Contract("null -> fail; _ -> this")
-  @SuppressWarnings({"Contract", "ConstantValue", "DataFlowIssue"})
+  @SuppressWarnings({"Contract", "ConstantValue", "DataFlowIssue", "NullAway"})
   public T commit(final SemVer semVer) {
     if (semVer == null) {
       throw ExceptionFactory.nullException("semVer");
     }
+    return commit(semVer, false);
+  }
+
+  /**
+   * Commits the <em>currently uncommitted</em> class as the {@code semVer}.
+   *
+   * @param semVer of the class.
+   * @param relocating whether the <em>previously committed</em> class is written to a new {@code
+   *     directory}, hence its {@code fullyQualifiedClassName} is already reserved.
+   * @return this Builder.
+   */
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  private T commit(final SemVer semVer, final boolean relocating) {
+    final long validationStart = System.nanoTime();
+    final var validationEvent = new GenerationEvent.Validation();
+    validationEvent.begin();
     validateClass();
     final String fullyQualifiedClassName = resolveFullyQualifiedClassName(semVer);
-    if (reservedClassNames.contains(fullyQualifiedClassName)) {
+    if (!relocating && reservedClassNames.contains(fullyQualifiedClassName)) {
       throw new IllegalStateException(
           "Class `%s` has already been generated!".formatted(fullyQualifiedClassName));
     }
-    generateClassFile(semVer);
+    validationEvent.end();
+    if (validationEvent.shouldCommit()) {
+      validationEvent.commit(fullyQualifiedClassName, semVer.toCompleteVersionString(), 0, null);
+    }
+
+    final long renderStart = System.nanoTime();
+    final ClassFileSink currentClassFileSink = classFileSink;
+    final int fileSize;
+    final long writeStart;
+    final boolean written;
+    if (currentClassFileSink != null) {
+      final byte[] classFile = emitClassFile(fullyQualifiedClassName, semVer);
+      fileSize = classFile.length;
+      writeStart = System.nanoTime();
+      written = writeClassFile(fullyQualifiedClassName, semVer, classFile, currentClassFileSink);
+    } else {
+      final RenderedClassFile renderedClassFile = renderClassFile(fullyQualifiedClassName, semVer);
+      fileSize = renderedClassFile.bytes().length;
+      writeStart = System.nanoTime();
+      written = writeClassFile(fullyQualifiedClassName, semVer, renderedClassFile);
+    }
+    final long writeEnd = System.nanoTime();
+
+    markCommitted(fullyQualifiedClassName, semVer);
+    final Journal currentJournal = journal;
+    if (currentJournal != null) {
+      recordCommittedOutput(fullyQualifiedClassName);
+    }
+    if (currentJournal != null
+        && currentJournal.appendCommit("commit", semVer.toCompleteVersionString())) {
+      currentJournal.writeSnapshot(snapshot());
+    }
+    if (!generationListeners.isEmpty()) {
+      final var metrics =
+          new GenerationMetrics(
+              fullyQualifiedClassName,
+              semVer,
+              renderStart - validationStart,
+              writeStart - renderStart,
+              writeEnd - writeStart,
+              fileSize,
+              !written);
+      for (final GenerationListener generationListener : generationListeners) {
+        generationListener.onCommit(metrics);
+      }
+    }
+    return self();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ValidationResult validate() {
+    final List<Violation> violations = new ArrayList<>(3);
+    if (outputSink == null && classFileSink == null) {
+      addIfPresent(violations, checkDirectory(this.directory));
+    }
+    addIfPresent(violations, checkPackageName(this.packageName));
+    addIfPresent(violations, checkClassName(this.className));
+    return ValidationResult.of(violations);
+  }
+
+  /**
+   * Records the {@code fullyQualifiedClassName} in {@link #committedOutputs}, if written to the
+   * {@code directory}.
+   *
+   * @param fullyQualifiedClassName of the committed class.
+   */
+  private void recordCommittedOutput(final String fullyQualifiedClassName) {
+    if (directory != null && outputSink == null && classFileSink == null) {
+      committedOutputs
+          .computeIfAbsent(directory, key -> new ArrayList<>())
+          .add(fullyQualifiedClassName);
+    }
+  }
+
+  /**
+   * Marks the <em>currently uncommitted</em> class as <em>committed</em>, without rendering or
+   * writing it.
+   *
+   * @param fullyQualifiedClassName of the committed class.
+   * @param semVer of the committed class.
+   */
+  private void markCommitted(final String fullyQualifiedClassName, final SemVer semVer) {
     reservedClassNames.add(fullyQualifiedClassName);
     this.semVer = semVer;
-    return self();
+    committedState =
+        new CommittedState(
+            directory,
+            packageName,
+            className,
+            versionFormat,
+            versionPlacement,
+            Set.copyOf(features));
+    onCommitted();
+  }
+
+  /**
+   * <em>Resumes</em> <em>this</em> {@code Builder} from the {@code journal}, by restoring the
+   * latest snapshot and replaying each subsequent changeset - without rendering or writing any
+   * <em>previously committed</em> class. Every subsequent changeset is appended to the {@code
+   * journal}.
+   *
+   * @param journal to resume from.
+   * @param classType of <em>this</em> {@code Builder}.
+   * @throws IllegalStateException if the {@code journal} is of another {@code classType}, or
+   *     contains an entry which could not be applied.
+   */
+  void resume(final Journal journal, final String classType) {
+    final List<Entry> entries = journal.entries();
+    if (entries.isEmpty()) {
+      journal.append("classType", classType);
+    } else if (!entries.get(0).operation().equals("classType")
+        || !entries.get(0).argument(0).equals(classType)) {
+      throw new IllegalStateException(
+          "Journal is not of class type `%s`".formatted(classType));
+    }
+    for (int i = 1; i < entries.size(); i++) {
+      final Entry entry = entries.get(i);
+      try {
+        applyEntry(entry);
+      } catch (final IllegalArgumentException e) {
+        throw new IllegalStateException(
+            "Journal entry `%s` could not be applied".formatted(entry.operation()), e);
+      }
+    }
+    this.journal = journal;
+    this.journalClassType = classType;
+  }
+
+  /**
+   * Appends the changeset to the {@code journal}, if journaled.
+   *
+   * @param operation of the changeset.
+   * @param arguments of the changeset.
+   */
+  protected final void journal(final String operation, final @Nullable String... arguments) {
+    final Journal currentJournal = journal;
+    if (currentJournal != null) {
+      currentJournal.append(operation, arguments);
+    }
+  }
+
+  /**
+   * Applies an {@link Entry} of the {@code journal}, or of a snapshot from {@link
+   * #snapshot(List)}.
+   *
+   * @param entry to apply.
+   * @throws IllegalStateException if the {@code entry} is unknown.
+   */
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  protected void applyEntry(final Entry entry) {
+    switch (entry.operation()) {
+      case "directory" -> updateDirectory(entry.argument(0));
+      case "packageName" -> updatePackageName(entry.argument(0));
+      case "className" -> updateClassName(entry.argument(0));
+      case "versionFormat" -> setVersionFormat(VersionFormat.valueOf(entry.argument(0)));
+      case "versionPlacement" -> setVersionPlacement(VersionPlacement.valueOf(entry.argument(0)));
+      case "semVer" -> setSemVer(parseSemVer(entry.argument(0)));
+      case "enableFeatures" -> enableFeatures(parseFeatures(entry.argumentsFrom(0)));
+      case "disableFeatures" -> disableFeatures(parseFeatures(entry.argumentsFrom(0)));
+      case "commit" -> {
+        final SemVer committedSemVer = parseSemVer(entry.argument(0));
+        final String fullyQualifiedClassName = resolveFullyQualifiedClassName(committedSemVer);
+        recordCommittedOutput(fullyQualifiedClassName);
+        markCommitted(fullyQualifiedClassName, committedSemVer);
+      }
+      case "reservedClassNames" -> reservedClassNames.addAll(List.of(entry.argumentsFrom(0)));
+      case "committedOutputs" ->
+          committedOutputs
+              .computeIfAbsent(entry.argument(0), key -> new ArrayList<>())
+              .addAll(List.of(entry.argumentsFrom(1)));
+      case "committedState" ->
+          committedState =
+              new CommittedState(
+                  entry.arguments().get(0),
+                  entry.arguments().get(1),
+                  entry.arguments().get(2),
+                  VersionFormat.valueOf(entry.argument(3)),
+                  VersionPlacement.valueOf(entry.argument(4)),
+                  Set.of(parseFeatures(entry.argumentsFrom(5))));
+      default ->
+          throw new IllegalStateException(
+              "Journal entry `%s` is unknown".formatted(entry.operation()));
+    }
+  }
+
+  /**
+   * Adds the {@link Entry}s of the complete state of <em>this</em> {@code Builder} to the {@code
+   * snapshot}, which are applied in order by {@link #applyEntry(Entry)}.
+   *
+   * @param snapshot to add to.
+   */
+  protected void snapshot(final List<Entry> snapshot) {
+    snapshot.add(new Entry("semVer", List.of(semVer.toCompleteVersionString())));
+    if (directory != null) {
+      snapshot.add(new Entry("directory", List.of(directory)));
+    }
+    if (packageName != null) {
+      snapshot.add(new Entry("packageName", List.of(packageName)));
+    }
+    if (className != null) {
+      snapshot.add(new Entry("className", List.of(className)));
+    }
+    snapshot.add(new Entry("versionFormat", List.of(versionFormat.name())));
+    snapshot.add(new Entry("versionPlacement", List.of(versionPlacement.name())));
+    if (!features.isEmpty()) {
+      snapshot.add(
+          new Entry("enableFeatures", List.of(featureNames(features.toArray(new Feature[0])))));
+    }
+    snapshot.add(new Entry("reservedClassNames", List.copyOf(reservedClassNames)));
+    committedOutputs.forEach(
+        (outputDirectory, fullyQualifiedClassNames) -> {
+          final List<@Nullable String> arguments =
+              new ArrayList<>(fullyQualifiedClassNames.size() + 1);
+          arguments.add(outputDirectory);
+          arguments.addAll(fullyQualifiedClassNames);
+          snapshot.add(new Entry("committedOutputs", arguments));
+        });
+    if (committedState != null) {
+      final List<@Nullable String> arguments =
+          new ArrayList<>(
+              Arrays.asList(
+                  committedState.directory(),
+                  committedState.packageName(),
+                  committedState.className(),
+                  committedState.versionFormat().name(),
+                  committedState.versionPlacement().name()));
+      arguments.addAll(
+          List.of(featureNames(committedState.features().toArray(new Feature[0]))));
+      snapshot.add(new Entry("committedState", arguments));
+    }
+  }
+
+  @SuppressWarnings("NullAway")
+  private List<Entry> snapshot() {
+    final List<Entry> snapshot = new ArrayList<>();
+    snapshot.add(new Entry("classType", List.of(journalClassType)));
+    snapshot(snapshot);
+    return snapshot;
+  }
+
+  private static String[] featureNames(final Feature[] features) {
+    final var featureNames = new String[features.length];
+    for (int i = 0; i < features.length; i++) {
+      featureNames[i] = features[i].name();
+    }
+    return featureNames;
+  }
+
+  private static Feature[] parseFeatures(final String[] featureNames) {
+    final var features = new Feature[featureNames.length];
+    for (int i = 0; i < featureNames.length; i++) {
+      features[i] = Feature.valueOf(featureNames[i]);
+    }
+    return features;
+  }
+
+  private static SemVer parseSemVer(final String semVer) {
+    final SemVer parsedSemVer = SemVerParser.parse(semVer);
+    if (parsedSemVer == null) {
+      throw new IllegalStateException("Journal SemVer `%s` is malformed".formatted(semVer));
+    }
+    return parsedSemVer;
   }
 
   private void validateClass() {
-    validateDirectory(this.directory);
-    validatePackageName(this.packageName);
-    validateClassName(this.className);
+    validate().throwIfInvalid();
     validateAdditionalPredicates();
   }
 
   /**
-   * Determines the {@link Change} for the <em>currently uncommitted</em> changes.
+   * Determines the {@link Change} for the <em>currently uncommitted</em> changes, compared to the
+   * <em>previously committed</em> class.
+   *
+   * <ul>
+   *   <li>{@link Change#MAJOR} if no class has been committed, if the {@code packageName}, {@code
+   *       className}, {@code versionFormat} or {@code versionPlacement} has changed, or if a
+   *       {@link Feature} has been disabled.
+   *   <li>{@link Change#MINOR} if a {@link Feature} has been enabled.
+   * </ul>
    *
-   * @return the {@code Change}.
+   * <p>The {@code directory} is not part of the class, hence never a change - see {@link
+   * #isRelocated()}.
+   *
+   * @return the {@code Change}, or {@code null} if there are no uncommitted changes.
+   */
+  protected @Nullable Change determineSemVerChange() {
+    final CommittedState committed = committedState;
+    if (committed == null
+        || !Objects.equals(packageName, committed.packageName())
+        || !Objects.equals(className, committed.className())
+        || versionFormat != committed.versionFormat()
+        || versionPlacement != committed.versionPlacement()
+        || !features.containsAll(committed.features())) {
+      return Change.MAJOR;
+    }
+    if (!committed.features().containsAll(features)) {
+      return Change.MINOR;
+    }
+    return null;
+  }
+
+  /**
+   * Determines whether the {@code directory} has changed since the <em>previously committed</em>
+   * class, which is then written to the new {@code directory} - as the same version - by {@link
+   * #commit()}.
+   *
+   * @return {@code true} if relocated, otherwise {@code false}.
    */
-  protected Change determineSemVerChange() {
-    return Change.MAJOR;
+  private boolean isRelocated() {
+    final CommittedState committed = committedState;
+    return committed != null
+        && outputSink == null
+        && classFileSink == null
+        && !Objects.equals(directory, committed.directory());
+  }
+
+  /**
+   * Returns the most significant of the {@code change} and {@code otherChange}, where {@code null}
+   * means no change.
+   *
+   * @param change to compare.
+   * @param otherChange to compare.
+   * @return the most significant {@code Change}, or {@code null} if both are {@code null}.
+   */
+  static @Nullable Change mostSignificantChange(
+      final @Nullable Change change, final @Nullable Change otherChange) {
+    if (change == null) {
+      return otherChange;
+    }
+    if (otherChange == null || change == Change.MAJOR) {
+      return change;
+    }
+    if (otherChange == Change.MAJOR || otherChange == Change.MINOR) {
+      return otherChange;
+    }
+    return change;
   }
 
   /**
@@ -202,23 +741,146 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   protected void validateAdditionalPredicates() {}
 
   /**
-   * Generates the complete file contents for a {@code .java} file for the <em>currently
-   * uncommitted</em> class.
+   * Determines whether the {@code feature} is supported by <em>this</em> {@code Builder}.
+   *
+   * @param feature to check.
+   * @return {@code true} if supported, otherwise {@code false}.
+   */
+  protected boolean isFeatureSupported(final Feature feature) {
+    return true;
+  }
+
+  /**
+   * Invoked once the <em>currently uncommitted</em> class has been <em>committed</em>, allowing
+   * subclasses to record state of the <em>previously committed</em> class.
+   */
+  protected void onCommitted() {}
+
+  /**
+   * Generates the {@link Model} of the <em>currently uncommitted</em> class.
+   *
+   * @param semVer for the new class.
+   * @return the {@code Model}.
+   */
+  protected abstract Model generateModel(final SemVer semVer);
+
+  /**
+   * Renders the source code of the <em>currently uncommitted</em> class, and encodes it as UTF-8
+   * once - for writing, and for the size reported by events and metrics.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param semVer for the new class.
+   * @return the {@link RenderedClassFile}.
+   */
+  private RenderedClassFile renderClassFile(
+      final String fullyQualifiedClassName, final SemVer semVer) {
+    final Model model = generateModel(semVer);
+    final var renderEvent = new GenerationEvent.Render();
+    renderEvent.begin();
+    final String fileContent = generateCodeFromModel(model);
+    renderEvent.end();
+    final byte[] bytes = fileContent.getBytes(StandardCharsets.UTF_8);
+    if (renderEvent.shouldCommit()) {
+      renderEvent.commit(
+          fullyQualifiedClassName,
+          semVer.toCompleteVersionString(),
+          bytes.length,
+          JavaTemplateEngine.resolveTemplateName(model));
+    }
+    return new RenderedClassFile(fileContent, bytes);
+  }
+
+  /**
+   * Emits the {@code .class} file of the <em>currently uncommitted</em> class, without rendering
+   * its source code.
    *
+   * @param fullyQualifiedClassName of the class.
    * @param semVer for the new class.
-   * @return the file contents as a {@code String}.
+   * @return the {@code .class} file.
+   * @throws IllegalStateException if the class has any enabled {@link Feature}.
    */
-  protected abstract String generateFileContent(final SemVer semVer);
+  private byte[] emitClassFile(final String fullyQualifiedClassName, final SemVer semVer) {
+    final Model model = generateModel(semVer);
+    if (!ClassFileEmitter.isSupported(model)) {
+      throw new IllegalStateException(
+          "Class `%s` cannot be emitted as bytecode, as features are enabled!"
+              .formatted(fullyQualifiedClassName));
+    }
+    final var renderEvent = new GenerationEvent.Render();
+    renderEvent.begin();
+    final byte[] classFile = ClassFileEmitter.emit(model);
+    renderEvent.end();
+    if (renderEvent.shouldCommit()) {
+      renderEvent.commit(
+          fullyQualifiedClassName, semVer.toCompleteVersionString(), classFile.length, null);
+    }
+    return classFile;
+  }
 
   /**
-   * Generates a {@code .java} class file for the <em>currently uncommitted</em> class.
+   * Writes the {@code .class} file of the <em>currently uncommitted</em> class to the {@code
+   * classFileSink}.
    *
+   * @param fullyQualifiedClassName of the class.
    * @param semVer for the new class.
+   * @param classFile of the class.
+   * @param classFileSink to write to.
+   * @return {@code true} if written, or {@code false} if skipped.
+   */
+  private static boolean writeClassFile(
+      final String fullyQualifiedClassName,
+      final SemVer semVer,
+      final byte[] classFile,
+      final ClassFileSink classFileSink) {
+    final var writeEvent = new GenerationEvent.Write();
+    writeEvent.begin();
+    final boolean written = classFileSink.write(fullyQualifiedClassName, classFile);
+    writeEvent.end();
+    if (writeEvent.shouldCommit()) {
+      writeEvent.commit(
+          fullyQualifiedClassName,
+          semVer.toCompleteVersionString(),
+          written ? classFile.length : 0,
+          null);
+    }
+    return written;
+  }
+
+  /**
+   * Writes the source code of the <em>currently uncommitted</em> class to its {@code .java} file,
+   * or to the {@code outputSink} if set.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param semVer for the new class.
+   * @param renderedClassFile of the class.
+   * @return {@code true} if written, or {@code false} if the file content was unchanged.
    */
   @SuppressWarnings({"DataFlowIssue", "NullAway"})
-  protected void generateClassFile(final SemVer semVer) {
-    FileWriter.writeToFile(
-        directory, resolveFullyQualifiedClassName(semVer), generateFileContent(semVer));
+  private boolean writeClassFile(
+      final String fullyQualifiedClassName,
+      final SemVer semVer,
+      final RenderedClassFile renderedClassFile) {
+    final var writeEvent = new GenerationEvent.Write();
+    writeEvent.begin();
+    final OutputSink currentOutputSink = outputSink;
+    final GenerationRun currentGenerationRun = generationRun;
+    if (currentOutputSink == null && currentGenerationRun != null) {
+      currentGenerationRun.recordOutput(directory, fullyQualifiedClassName);
+    }
+    final boolean written =
+        currentOutputSink != null
+            ? currentOutputSink.write(fullyQualifiedClassName, renderedClassFile.fileContent())
+            : FileWriter.writeToFile(
+                directory, fullyQualifiedClassName, renderedClassFile.bytes());
+    writeEvent.end();
+    if (writeEvent.shouldCommit()) {
+      writeEvent.commit(
+          fullyQualifiedClassName,
+          semVer.toCompleteVersionString(),
+          written ? renderedClassFile.bytes().length : 0,
+          null);
+    }
+    return written;
   }
 
   /**
@@ -233,10 +895,11 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
    */
   protected @Nullable String resolveFullyQualifiedClassName(final SemVer semVer) {
     final String effectiveClassName = resolveEffectiveClassName(semVer);
-    return Optional.ofNullable(resolveEffectivePackageName(semVer))
-        .filter(pN -> !pN.isBlank())
-        .map(pN -> String.join(".", pN, effectiveClassName))
-        .orElse(effectiveClassName);
+    final String effectivePackageName = resolveEffectivePackageName(semVer);
+    if (effectivePackageName == null || effectivePackageName.isBlank()) {
+      return effectiveClassName;
+    }
+    return effectivePackageName + "." + effectiveClassName;
   }
 
   /**
@@ -256,10 +919,9 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
                 })
                 .replace(".", "_");
 
-        yield Optional.ofNullable(packageName)
-            .filter(pN -> !pN.isBlank())
-            .map(pN -> String.join(".", pN, versionSubPackage))
-            .orElse(versionSubPackage);
+        yield packageName == null || packageName.isBlank()
+            ? versionSubPackage
+            : packageName + "." + versionSubPackage;
       }
     };
   }
@@ -287,33 +949,90 @@ public abstract sealed class AbstractBuilder<T extends Builder<T>> implements Bu
   }
 
   /**
-   * Generates the code contents from the given {@code Model}.
+   * Generates the code contents from the given {@code Model} - or reads them from the {@code
+   * renderCache}, if enabled and previously rendered.
    *
    * @param model of which to generate code for.
    * @return the {@code .java}-contents as a {@code String}.
    */
   protected String generateCodeFromModel(final Model model) {
+    final RenderCache currentRenderCache = renderCache;
+    if (currentRenderCache != null) {
+      return currentRenderCache.render(model);
+    }
     final var stringOutput = JavaTemplateEngine.generateModelAsString(model);
     return stringOutput.toString();
   }
 
-  private static void validateDirectory(final @Nullable String directory) {
-    if (!directoryValidator.test(directory)) {
-      throw ExceptionFactory.nullException("directory");
+  @SuppressWarnings({"ConstantValue", "OptionalOfNullableMisuse"})
+  private static void validateFeatures(final Feature @Nullable [] features) {
+    if (Optional.ofNullable(features)
+        .filter(array -> array.length >= 1)
+        .map(Arrays::stream)
+        .filter(stream -> stream.allMatch(Objects::nonNull))
+        .isEmpty()) {
+      throw ExceptionFactory.nullOrEmptyException("features");
     }
   }
 
+  private static void validateDirectory(final @Nullable String directory) {
+    throwIfPresent(checkDirectory(directory));
+  }
+
   private static void validatePackageName(final @Nullable String packageName) {
-    if (!packageNameValidator.test(packageName)) {
-      throw ExceptionFactory.notMatchingRegExException(
-          "packageName", ClassForge.VALID_PACKAGE_NAME_REGEX);
-    }
+    throwIfPresent(checkPackageName(packageName));
   }
 
   private static void validateClassName(final @Nullable String className) {
-    if (!classNameValidator.test(className)) {
-      throw ExceptionFactory.notMatchingRegExException(
-          "className", ClassForge.VALID_CLASS_NAME_REGEX);
+    throwIfPresent(checkClassName(className));
+  }
+
+  private static @Nullable Violation checkDirectory(final @Nullable String directory) {
+    return directoryValidator.test(directory)
+        ? null
+        : new Violation(Rule.NOT_NULL, "directory", directory, -1);
+  }
+
+  private static @Nullable Violation checkPackageName(final @Nullable String packageName) {
+    return packageNameValidator.test(packageName)
+        ? null
+        : new Violation(Rule.VALID_PACKAGE_NAME, "packageName", packageName, -1);
+  }
+
+  private static @Nullable Violation checkClassName(final @Nullable String className) {
+    return classNameValidator.test(className)
+        ? null
+        : new Violation(Rule.VALID_CLASS_NAME, "className", className, -1);
+  }
+
+  /**
+   * Adds the {@code violation} to the {@code violations}, if not {@code null}.
+   *
+   * @param violations to add to.
+   * @param violation to add.
+   */
+  static void addIfPresent(final List<Violation> violations, final @Nullable Violation violation) {
+    if (violation != null) {
+      violations.add(violation);
     }
   }
+
+  /**
+   * Throws the exception of the {@code violation}, if not {@code null}.
+   *
+   * @param violation to throw.
+   */
+  static void throwIfPresent(final @Nullable Violation violation) {
+    if (violation != null) {
+      throw violation.toException();
+    }
+  }
+
+  /**
+   * The rendered source code of a class, and its UTF-8 encoding.
+   *
+   * @param fileContent of the class.
+   * @param bytes of the {@code fileContent}, encoded as UTF-8.
+   */
+  private record RenderedClassFile(String fileContent, byte[] bytes) {}
 }
@@ -15,8 +15,10 @@
  */
 package io.github.chrimle.classforge;
 
+import io.github.chrimle.classforge.metrics.GenerationListener;
 import io.github.chrimle.semver.Change;
 import io.github.chrimle.semver.SemVer;
+import java.nio.file.Path;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.Contract;
 
@@ -107,6 +109,188 @@ public sealed interface Builder<T extends Builder<T>> permits AbstractBuilder {
     PACKAGE_NAME_SUFFIX
   }
 
+  /**
+   * An <em>opt-in</em> feature which will be generated as part of a <em>class</em>.
+   *
+   * <p><strong>Default: </strong> no features are enabled.
+   *
+   * @author Chrimle
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  enum Feature {
+
+    /**
+     * Generates a <em>streaming</em> JSON writer and reader, without any reflection. The writer
+     * uses precomputed bytes, and the reader accepts names from <em>previously committed</em>
+     * versions of the class. The reader consumes a single value, one byte at a time, hence
+     * <strong>MUST</strong> be given a buffered {@code InputStream} - e.g. a {@link
+     * java.io.BufferedInputStream}, rather than a raw file or socket stream. <strong>NOTE:</strong>
+     * only supported for {@code enum} classes, until {@code class}-classes have fields to encode.
+     *
+     * <p><strong>Example: </strong> {@code void writeJson(OutputStream)} and {@code static Example
+     * readJson(InputStream)}.
+     *
+     * @since 0.11.0
+     */
+    JSON_CODEC,
+
+    /**
+     * Generates a compact binary encoder and decoder over a {@link java.nio.ByteBuffer}. Each
+     * payload starts with a <em>version header</em> of the {@link SemVer}, followed by
+     * <em>varint</em>-encoded values. Enum constants are encoded by a <em>wire ID</em>, which is
+     * stable across versions, allowing payloads of <em>previously committed</em> versions to be
+     * decoded. Payloads of a newer {@code major} version are rejected. <strong>NOTE:</strong> only
+     * supported for {@code enum} classes, until {@code class}-classes have fields to encode.
+     *
+     * <p><strong>Example: </strong> {@code void writeBinary(ByteBuffer)} and {@code static Example
+     * readBinary(ByteBuffer)}.
+     *
+     * @since 0.11.0
+     */
+    BINARY_CODEC,
+
+    /**
+     * Generates <em>flyweight</em> accessors, which read and write values directly at a fixed
+     * offset of a {@link java.nio.ByteBuffer}, without allocating. The fixed-width layout is
+     * documented in the generated class. <strong>NOTE:</strong> only supported for {@code enum}
+     * classes, where each enum constant is stored as its stable <em>wire ID</em>. The width is kept
+     * across versions, and only widened - as a {@link Change#MAJOR} change - when a wire ID no
+     * longer fits.
+     *
+     * <p><strong>Example: </strong> {@code static Example getAt(ByteBuffer, int)} and {@code void
+     * putAt(ByteBuffer, int)}.
+     *
+     * @since 0.11.0
+     */
+    FLYWEIGHT,
+
+    /**
+     * Generates a nested <em>columnar batch</em> class, which stores values in a primitive array
+     * instead of as object references, with {@code append}, {@code get} and iteration. <strong>
+     * NOTE:</strong> only supported for {@code enum} classes, where each enum constant is stored
+     * as its {@code ordinal} in the smallest primitive type which fits.
+     *
+     * <p><strong>Example: </strong> {@code Example.ExampleBatch}.
+     *
+     * @since 0.11.0
+     */
+    BATCH
+  }
+
+  /**
+   * <em>Enables</em> the {@code features} of the <em>currently uncommitted</em> class.
+   *
+   * @param features to enable.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code features} is {@code null} or empty, or contains
+   *     {@code null}.
+   * @throws IllegalArgumentException if {@code features} contains a {@link Feature} which is not
+   *     supported by this {@code Builder}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T enableFeatures(final Feature... features);
+
+  /**
+   * <em>Disables</em> the {@code features} of the <em>currently uncommitted</em> class.
+   *
+   * @param features to disable.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code features} is {@code null} or empty, or contains
+   *     {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T disableFeatures(final Feature... features);
+
+  /**
+   * <em>Adds</em> the {@code generationListener}, which will be invoked on each <em>commit</em>.
+   *
+   * @param generationListener to add.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code generationListener} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T addGenerationListener(final GenerationListener generationListener);
+
+  /**
+   * <em>Removes</em> the {@code generationListener}, if previously added.
+   *
+   * @param generationListener to remove.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code generationListener} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T removeGenerationListener(final GenerationListener generationListener);
+
+  /**
+   * <em>Enables</em> the <em>render cache</em> in the {@code cacheDirectory}, which
+   * <strong>MAY</strong> be shared across runs and {@code Builder}s. When <em>committing</em>, the
+   * source code of a class is read from the cache if an identical class has been rendered before -
+   * by the same template and version of ClassForge - instead of being rendered again.
+   *
+   * @param cacheDirectory of the render cache.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code cacheDirectory} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T enableRenderCache(final Path cacheDirectory);
+
+  /**
+   * <em>Disables</em> the <em>render cache</em>, if previously enabled.
+   *
+   * @return <em>this</em> {@code Builder}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T disableRenderCache();
+
+  /**
+   * <em>Sets</em> the {@code outputSink} of <em>committed</em> classes, instead of writing each
+   * class to a {@code .java} file in the {@code directory} - which is then no longer required.
+   *
+   * @param outputSink of committed classes.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code outputSink} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T setOutputSink(final OutputSink outputSink);
+
+  /**
+   * <em>Sets</em> the {@code classFileSink} of <em>committed</em> classes. Each class is then
+   * emitted directly as a {@code .class} file, instead of rendering its source code - hence neither
+   * the {@code directory}, the {@code outputSink} nor the <em>render cache</em> is used.
+   *
+   * <p><strong>NOTE:</strong> committing a class with any enabled {@link Feature} fails, as only
+   * classes without members can be emitted as bytecode.
+   *
+   * @param classFileSink of committed classes.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code classFileSink} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T setClassFileSink(final ClassFileSink classFileSink);
+
+  /**
+   * <em>Sets</em> the {@link GenerationRun} of <em>committed</em> classes, and <em>updates</em> the
+   * {@code directory} to the directory of the run. Each class written to its {@code .java} file is
+   * then recorded as produced by the run - as is each class restored from a <em>journal</em>.
+   *
+   * @param generationRun of committed classes.
+   * @return <em>this</em> {@code Builder}.
+   * @throws IllegalArgumentException if {@code generationRun} is {@code null}.
+   * @see ClassForge#startRun(String)
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  T setGenerationRun(final GenerationRun generationRun);
+
   /**
    * <em>Sets</em> the {@code versionFormat} of the <em>currently uncommitted</em> class.
    *
@@ -181,12 +365,49 @@ public sealed interface Builder<T extends Builder<T>> permits AbstractBuilder {
    */
   T updatePackageName(final String packageName);
 
+  /**
+   * <em>Validates</em> the <em>currently uncommitted</em> class, as when <em>committing</em> - but
+   * returns <strong>every</strong> violation found, instead of throwing on the first one.
+   *
+   * @return the {@link ValidationResult}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  ValidationResult validate();
+
+  /**
+   * Determines whether the <em>currently uncommitted</em> class has any changes, compared to the
+   * <em>previously committed</em> class. Always {@code true} if no class has been committed yet.
+   *
+   * @return {@code true} if there are uncommitted changes, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  boolean hasUncommittedChanges();
+
+  /**
+   * Closes the <em>journal</em> of <em>this</em> {@code Builder} - if opened via {@link
+   * ClassForge#openBuilder(ClassForge.ClassType, Path)} - and releases its lock, so that it
+   * <strong>MAY</strong> be opened by another {@code Builder}. Subsequent changesets are no longer
+   * journaled. Does nothing if <em>this</em> {@code Builder} is not journaled.
+   *
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  void closeJournal();
+
   /**
    * <em><strong>Commits</strong></em> the <em>currently uncommitted</em> changes as a new
    * <em>class</em>. The {@code semVer} of the new <em>class</em> will be set
-   * <em><strong>automatically</strong></em>.
+   * <em><strong>automatically</strong></em>, according to the most significant uncommitted change.
+   *
+   * <p><strong>NOTE:</strong> if there are no uncommitted changes, nothing is generated and the
+   * {@code semVer} is left unchanged. The {@code directory} is not part of the class - hence if
+   * only the {@code directory} has changed, the <em>previously committed</em> class is written to
+   * the new {@code directory}, without changing its {@code semVer}.
    *
    * @return <em>this</em> {@code Builder}.
+   * @see #hasUncommittedChanges()
    * @since 0.1.0
    */
   T commit();
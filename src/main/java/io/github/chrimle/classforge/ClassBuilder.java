@@ -42,12 +42,16 @@ public final class ClassBuilder extends AbstractBuilder<ClassBuilder> {
     return this;
   }
 
-  @SuppressWarnings({"DataFlowIssue", "NullAway"})
   @Override
-  protected String generateFileContent(final SemVer semVer) {
-    final var classModel =
-        new ClassModel(resolveEffectivePackageName(semVer), resolveEffectiveClassName(semVer));
+  protected boolean isFeatureSupported(final Feature feature) {
+    return switch (feature) {
+      case JSON_CODEC, BINARY_CODEC, FLYWEIGHT, BATCH -> false;
+    };
+  }
 
-    return generateCodeFromModel(classModel);
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  @Override
+  protected Model generateModel(final SemVer semVer) {
+    return new ClassModel(resolveEffectivePackageName(semVer), resolveEffectiveClassName(semVer));
   }
 }
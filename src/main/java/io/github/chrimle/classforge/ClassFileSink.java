@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import org.apiguardian.api.API;
+
+/**
+ * Destination of the {@code .class} files of <em>committed</em> classes. When set via {@link
+ * Builder#setClassFileSink(ClassFileSink)}, each class is emitted directly as bytecode - without
+ * rendering source code, nor invoking {@code javac}.
+ *
+ * <p><strong>Example: </strong> defining classes at runtime, via {@link
+ * io.github.chrimle.classforge.compiler.ClassDefiner}.
+ *
+ * <p><strong>NOTE:</strong> only classes without any enabled {@link Builder.Feature} can be
+ * emitted as bytecode.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+@FunctionalInterface
+public interface ClassFileSink {
+
+  /**
+   * Writes the {@code .class} file of a <em>committed</em> class. Invoked synchronously, on the
+   * <em>committing</em> thread.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param classFile of the class, targeting Java 17.
+   * @return {@code true} if written, or {@code false} if skipped.
+   * @since 0.11.0
+   */
+  boolean write(final String fullyQualifiedClassName, final byte[] classFile);
+}
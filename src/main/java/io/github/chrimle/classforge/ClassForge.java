@@ -16,7 +16,16 @@
 package io.github.chrimle.classforge;
 
 import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.internal.FileWriter;
+import io.github.chrimle.classforge.internal.Journal;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.Contract;
 
@@ -102,6 +111,194 @@ public final class ClassForge {
     };
   }
 
+  /**
+   * Opens a {@link Builder} instance for generating {@code classType}s, which appends every
+   * changeset to a persistent <em>journal</em> in the {@code journalDirectory} - with a
+   * <em>snapshot</em> of its complete state every {@value Journal#DEFAULT_SNAPSHOT_INTERVAL}
+   * commits.
+   *
+   * @param classType to generate.
+   * @param journalDirectory of the journal.
+   * @return a new or <em>resumed</em> {@link Builder} instance.
+   * @see #openBuilder(ClassType, Path, int)
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Contract("null, _ -> fail; _, null -> fail; _, _ -> new")
+  public static Builder<?> openBuilder(final ClassType classType, final Path journalDirectory) {
+    return openBuilder(classType, journalDirectory, Journal.DEFAULT_SNAPSHOT_INTERVAL);
+  }
+
+  /**
+   * Opens a {@link Builder} instance for generating {@code classType}s, which appends every
+   * changeset to a persistent <em>journal</em> in the {@code journalDirectory} - with a
+   * <em>snapshot</em> of its complete state every {@code snapshotInterval} commits.
+   *
+   * <p>If the {@code journalDirectory} contains the journal of a previous run, the {@code Builder}
+   * is <em>resumed</em> from its latest snapshot, and only the changesets since are replayed -
+   * without rendering or writing any <em>previously committed</em> class. The journal is
+   * <em>locked</em> until {@link Builder#closeJournal()}, hence it can only be opened by a single
+   * {@code Builder} at a time.
+   *
+   * @param classType to generate.
+   * @param journalDirectory of the journal.
+   * @param snapshotInterval number of commits between snapshots.
+   * @return a new or <em>resumed</em> {@link Builder} instance.
+   * @throws IllegalArgumentException if {@code classType} or {@code journalDirectory} is {@code
+   *     null}, or if {@code snapshotInterval} is not positive.
+   * @throws IllegalStateException if the journal is of another {@code classType}, cannot be
+   *     replayed, or is already opened by another {@code Builder}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Contract("null, _, _ -> fail; _, null, _ -> fail; _, _, _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Builder<?> openBuilder(
+      final ClassType classType, final Path journalDirectory, final int snapshotInterval) {
+    if (journalDirectory == null) {
+      throw ExceptionFactory.nullException("journalDirectory");
+    }
+    if (snapshotInterval < 1) {
+      throw ExceptionFactory.outOfRangeException(
+          "snapshotInterval", "[1, %d]".formatted(Integer.MAX_VALUE));
+    }
+    final var builder = (AbstractBuilder<?>) newBuilder(classType);
+    final Journal journal = Journal.open(journalDirectory, snapshotInterval);
+    try {
+      builder.resume(journal, classType.name());
+    } catch (final RuntimeException e) {
+      journal.close();
+      throw e;
+    }
+    return builder;
+  }
+
+  /**
+   * Loads a {@link Builder} from the JSON <em>schema</em> file, and commits each of its changesets
+   * in order. The schema is <em>streamed</em>, hence schemas with hundreds of thousands of enum
+   * constants are never held in memory - only the state of the {@link Builder}.
+   *
+   * <p>The member {@code type} - i.e. a {@link ClassType} - <strong>MUST</strong> be first, and
+   * the {@code configuration} is applied directly after it. Every other member is applied in
+   * order. Each changeset is committed after its last member, according to its optional {@code
+   * commit} member - either a {@link io.github.chrimle.semver.Change}, or a version such as {@code
+   * "1.2.3"}.
+   *
+   * <p><strong>Example</strong>
+   *
+   * <pre>{@code
+   * {
+   *   "type": "ENUM",
+   *   "packageName": "io.github.chrimle.example",
+   *   "className": "Example",
+   *   "versionPlacement": "PACKAGE_NAME_SUFFIX",
+   *   "features": ["JSON_CODEC"],
+   *   "changesets": [
+   *     {"addEnumConstants": ["FIRST", "SECOND"]},
+   *     {"updateEnumConstants": {"SECOND": "OTHER"}, "addEnumConstants": ["THIRD"]},
+   *     {"removeEnumConstants": ["FIRST"], "commit": "3.0.0"}
+   *   ]
+   * }
+   * }</pre>
+   *
+   * <p>The members of a changeset are {@code updatePackageName}, {@code updateClassName}, {@code
+   * enableFeatures}, {@code disableFeatures} and {@code commit} - and, for {@code enum} classes,
+   * {@code addEnumConstants}, {@code removeEnumConstants} and {@code updateEnumConstants}.
+   *
+   * @param schemaFile of the schema, encoded as UTF-8.
+   * @param configuration of the {@link Builder} - e.g. its {@code directory} or {@link
+   *     OutputSink}.
+   * @return the {@link Builder}, after the last changeset.
+   * @throws IllegalArgumentException if {@code schemaFile} or {@code configuration} is {@code
+   *     null}, if the schema is malformed, or if any changeset is invalid.
+   * @see #loadSchema(Reader, Consumer)
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Builder<?> loadSchema(
+      final Path schemaFile, final Consumer<? super Builder<?>> configuration) {
+    if (schemaFile == null) {
+      throw ExceptionFactory.nullException("schemaFile");
+    }
+    if (configuration == null) {
+      throw ExceptionFactory.nullException("configuration");
+    }
+    try (final Reader reader = Files.newBufferedReader(schemaFile, StandardCharsets.UTF_8)) {
+      return loadSchema(reader, configuration);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Loads a {@link Builder} from the JSON <em>schema</em> read by the {@code reader}, as described
+   * by {@link #loadSchema(Path, Consumer)}. The {@code reader} is not closed.
+   *
+   * @param reader of the schema.
+   * @param configuration of the {@link Builder} - e.g. its {@code directory} or {@link
+   *     OutputSink}.
+   * @return the {@link Builder}, after the last changeset.
+   * @throws IllegalArgumentException if {@code reader} or {@code configuration} is {@code null},
+   *     if the schema is malformed, or if any changeset is invalid.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static Builder<?> loadSchema(
+      final Reader reader, final Consumer<? super Builder<?>> configuration) {
+    if (reader == null) {
+      throw ExceptionFactory.nullException("reader");
+    }
+    if (configuration == null) {
+      throw ExceptionFactory.nullException("configuration");
+    }
+    return SchemaLoader.load(reader, configuration);
+  }
+
+  /**
+   * Starts a {@link GenerationRun} of generating classes in the {@code directory}. Each {@link
+   * Builder} of the run records its outputs in it - see {@link
+   * Builder#setGenerationRun(GenerationRun)} - hence the stale outputs of the previous run can be
+   * pruned afterwards, via {@link GenerationRun#pruneStaleOutputs()}.
+   *
+   * @param directory of generated classes, as given to {@link Builder#updateDirectory(String)}.
+   * @return the new {@link GenerationRun}.
+   * @throws IllegalArgumentException if {@code directory} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Contract("null -> fail; _ -> new")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static GenerationRun startRun(final String directory) {
+    if (directory == null) {
+      throw ExceptionFactory.nullException("directory");
+    }
+    return new GenerationRun(directory);
+  }
+
+  /**
+   * Returns the outputs of the {@code directory} which were generated by the <em>previous
+   * run</em>, as recorded by {@link GenerationRun#pruneStaleOutputs()}. Hence, a build tool
+   * <strong>MAY</strong> skip an unchanged run, if each of these outputs still exists.
+   *
+   * @param directory of generated classes, as given to {@link Builder#updateDirectory(String)}.
+   * @return the generated files, or an empty list if no run has been pruned.
+   * @throws IllegalArgumentException if {@code directory} is {@code null}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static List<Path> getGeneratedOutputs(final String directory) {
+    if (directory == null) {
+      throw ExceptionFactory.nullException("directory");
+    }
+    return FileWriter.readManifest(directory);
+  }
+
   /**
    * Creates a new {@link Builder} instance for generating Java <i>classes</i>.
    *
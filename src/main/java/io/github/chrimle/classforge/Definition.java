@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import org.apiguardian.api.API;
+
+/**
+ * A <em>definition</em> of generated classes, which <em>commits</em> them via {@link Builder}s -
+ * e.g. run by the {@code class-forge-maven-plugin} during {@code generate-sources}.
+ *
+ * <p>Implementations <strong>MUST</strong> have a public no-argument constructor, and
+ * <strong>MUST</strong> be thread-safe with respect to other definitions - as definitions
+ * <strong>MAY</strong> be run in parallel.
+ *
+ * <p><strong>Example</strong>
+ *
+ * <pre>{@code
+ * public final class ExampleDefinition implements Definition {
+ *
+ *   @Override
+ *   public void define(final GenerationRun generationRun) {
+ *     ClassForge.newEnumBuilder()
+ *         .setGenerationRun(generationRun)
+ *         .updatePackageName("com.example")
+ *         .updateClassName("Example")
+ *         .commit();
+ *   }
+ * }
+ * }</pre>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+@FunctionalInterface
+public interface Definition {
+
+  /**
+   * <em>Commits</em> the defined classes as part of the {@code generationRun} - i.e. via {@link
+   * Builder}s set to it, see {@link Builder#setGenerationRun(GenerationRun)}.
+   *
+   * @param generationRun to generate classes in.
+   * @since 0.11.0
+   */
+  void define(final GenerationRun generationRun);
+}
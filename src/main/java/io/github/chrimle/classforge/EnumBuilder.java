@@ -15,14 +15,24 @@
  */
 package io.github.chrimle.classforge;
 
+import io.github.chrimle.classforge.ValidationResult.Rule;
+import io.github.chrimle.classforge.ValidationResult.Violation;
 import io.github.chrimle.classforge.enums.EnumModel;
 import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import io.github.chrimle.classforge.internal.BatchGenerator;
+import io.github.chrimle.classforge.internal.BinaryCodecGenerator;
 import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.internal.FlyweightGenerator;
+import io.github.chrimle.classforge.internal.IdentifierValidator;
+import io.github.chrimle.classforge.internal.Journal.Entry;
+import io.github.chrimle.classforge.internal.JsonCodecGenerator;
+import io.github.chrimle.semver.Change;
 import io.github.chrimle.semver.SemVer;
 import java.util.*;
 import java.util.function.Predicate;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Builder of Java {@code enum} classes.
@@ -41,15 +51,44 @@ public final class EnumBuilder extends AbstractBuilder<EnumBuilder> {
   public static final String VALID_ENUM_CONSTANT_NAME_REGEX =
       "^([A-Za-z]|(_+[A-Za-z0-9]))[A-Z_a-z0-9]*$";
 
-  @SuppressWarnings("OptionalOfNullableMisuse")
   private static final Predicate<String> enumConstantNamePredicate =
-      enumConstantName ->
-          Optional.ofNullable(enumConstantName)
-              .filter(name -> name.matches(VALID_ENUM_CONSTANT_NAME_REGEX))
-              .isPresent();
+      IdentifierValidator::isValidEnumConstantName;
 
   private final List<String> enumConstants = new ArrayList<>();
 
+  /** The enum constant names of the <em>currently uncommitted</em> class, for lookups. */
+  private final Set<String> enumConstantSet = new HashSet<>();
+
+  /** The enum constant names of the <em>previously committed</em> class, in order. */
+  private List<String> lastCommittedEnumConstants = List.of();
+
+  /** The enum constant names of <em>previously committed</em> classes. */
+  private final Set<String> committedEnumConstants = new HashSet<>();
+
+  /** The <em>previously committed</em> names of renamed enum constants, by their current name. */
+  private final Map<String, Set<String>> previousEnumConstantNames = new HashMap<>();
+
+  /** The current name of each renamed enum constant, by its <em>previous</em> name. */
+  private final Map<String, String> previousNameOwners = new HashMap<>();
+
+  /**
+   * The <em>wire IDs</em> of enum constants, which are never reused by another enum constant. An
+   * enum constant which is removed and re-added before the next commit keeps its committed ID.
+   */
+  private final Map<String, Integer> wireIds = new HashMap<>();
+
+  /** The <em>wire IDs</em> of the enum constants of the <em>previously committed</em> class. */
+  private Map<String, Integer> lastCommittedWireIds = Map.of();
+
+  /**
+   * The {@link Feature#FLYWEIGHT} width, in bytes, of the <em>previously committed</em> class, or
+   * {@code 0} if no class has been committed with the feature.
+   */
+  private int lastCommittedFlyweightBytes = 0;
+
+  /** The <em>wire ID</em> of the next added enum constant. */
+  private int nextWireId = 0;
+
   private EnumBuilder() {}
 
   @Contract(" -> new")
@@ -79,29 +118,71 @@ public final class EnumBuilder extends AbstractBuilder<EnumBuilder> {
   @Contract("null -> fail; _ -> this")
   @SuppressWarnings({"ConstantValue", "Contract", "OptionalOfNullableMisuse"})
   public EnumBuilder addEnumConstants(final String... enumConstantNames) {
+    validateEnumConstants(enumConstantNames).throwIfInvalid();
+    @Nullable Set<Integer> usedWireIds = null;
+    for (final String enumConstantName : enumConstantNames) {
+      releasePreviousEnumConstantName(enumConstantName);
+      final Integer committedWireId = lastCommittedWireIds.get(enumConstantName);
+      if (committedWireId != null) {
+        if (usedWireIds == null) {
+          usedWireIds = new HashSet<>(wireIds.values());
+        }
+        if (usedWireIds.add(committedWireId)) {
+          wireIds.put(enumConstantName, committedWireId);
+          continue;
+        }
+      }
+      wireIds.put(enumConstantName, nextWireId++);
+    }
+    enumConstants.addAll(List.of(enumConstantNames));
+    enumConstantSet.addAll(List.of(enumConstantNames));
+    journal("addEnumConstants", enumConstantNames);
+    return this;
+  }
 
+  /**
+   * <em>Validates</em> the {@code enumConstantNames}, as {@link #addEnumConstants(String...)} would
+   * - but returns <strong>every</strong> violation found in a single pass, instead of throwing on
+   * the first one. Intended for validating large imports of enum constants up front.
+   *
+   * <p>If {@code enumConstantNames} is {@code null}, empty or contains {@code null}, only that
+   * violation is returned. Otherwise, duplicates are reported before the violations of each
+   * individual name.
+   *
+   * @param enumConstantNames to validate.
+   * @return the {@link ValidationResult}.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @SuppressWarnings({"ConstantValue", "OptionalOfNullableMisuse"})
+  public ValidationResult validateEnumConstants(final String... enumConstantNames) {
     if (Optional.ofNullable(enumConstantNames)
         .filter(enums -> enums.length >= 1)
         .map(Arrays::stream)
         .filter(stream -> stream.allMatch(Objects::nonNull))
         .isEmpty()) {
-      throw ExceptionFactory.nullOrEmptyException("enumConstantNames");
+      return ValidationResult.of(
+          List.of(new Violation(Rule.NOT_NULL_OR_EMPTY, "enumConstantNames", null, -1)));
     }
 
-    final var enumNamesList = List.of(enumConstantNames);
-
-    if (new HashSet<>(enumNamesList).size() < enumNamesList.size()) {
-      throw new IllegalArgumentException("Duplicate Enum constant names were provided!");
+    final List<Violation> violations = new ArrayList<>();
+    final Set<String> distinctEnumConstantNames = new HashSet<>(enumConstantNames.length * 2);
+    for (int i = 0; i < enumConstantNames.length; i++) {
+      if (!distinctEnumConstantNames.add(enumConstantNames[i])) {
+        violations.add(
+            new Violation(Rule.NOT_DUPLICATE, "enumConstantNames", enumConstantNames[i], i));
+      }
     }
-
-    for (final String enumConstantName : enumConstantNames) {
-      validateEnumConstantName(enumConstantName);
-      if (enumConstants.contains(enumConstantName)) {
-        throw ExceptionFactory.alreadyExistsException("enum constant", enumConstantName);
+    for (int i = 0; i < enumConstantNames.length; i++) {
+      final String enumConstantName = enumConstantNames[i];
+      final Violation violation = checkEnumConstantName(enumConstantName, i);
+      if (violation != null) {
+        violations.add(violation);
+      } else if (enumConstantSet.contains(enumConstantName)) {
+        violations.add(new Violation(Rule.NOT_EXISTING, "enumConstantName", enumConstantName, i));
       }
     }
-    enumConstants.addAll(enumNamesList);
-    return this;
+    return ValidationResult.of(violations);
   }
 
   /**
@@ -129,11 +210,17 @@ public final class EnumBuilder extends AbstractBuilder<EnumBuilder> {
     }
 
     for (final String enumConstantName : enumConstantNames) {
-      if (!enumConstants.contains(enumConstantName)) {
+      if (!enumConstantSet.contains(enumConstantName)) {
         throw ExceptionFactory.doesNotExistException("enum constant", enumConstantName);
       }
     }
-    enumConstants.removeAll(List.of(enumConstantNames));
+    enumConstantSet.removeAll(List.of(enumConstantNames));
+    enumConstants.removeIf(enumConstant -> !enumConstantSet.contains(enumConstant));
+    for (final String enumConstantName : enumConstantNames) {
+      removePreviousNames(enumConstantName);
+      wireIds.remove(enumConstantName);
+    }
+    journal("removeEnumConstants", enumConstantNames);
     return this;
   }
 
@@ -159,30 +246,96 @@ public final class EnumBuilder extends AbstractBuilder<EnumBuilder> {
     if (oldEnumConstant == null) {
       throw ExceptionFactory.nullException("oldEnumConstant");
     }
-    if (!enumConstants.contains(oldEnumConstant)) {
+    if (!enumConstantSet.contains(oldEnumConstant)) {
       throw ExceptionFactory.doesNotExistException("enum constant", oldEnumConstant);
     }
     if (newEnumConstant == null) {
       throw ExceptionFactory.nullException("newEnumConstant");
     }
     validateEnumConstantName(newEnumConstant);
-    if (enumConstants.contains(newEnumConstant)) {
+    if (enumConstantSet.contains(newEnumConstant)) {
       throw ExceptionFactory.alreadyExistsException("enum constant", newEnumConstant);
     }
     enumConstants.replaceAll(
         existingEnumConstant ->
             existingEnumConstant.equals(oldEnumConstant) ? newEnumConstant : existingEnumConstant);
+    enumConstantSet.remove(oldEnumConstant);
+    enumConstantSet.add(newEnumConstant);
+    final Set<String> previousNames =
+        Optional.ofNullable(removePreviousNames(oldEnumConstant)).orElseGet(LinkedHashSet::new);
+    if (committedEnumConstants.contains(oldEnumConstant)) {
+      previousNames.add(oldEnumConstant);
+    }
+    releasePreviousEnumConstantName(newEnumConstant);
+    previousNames.remove(newEnumConstant);
+    if (!previousNames.isEmpty()) {
+      putPreviousNames(newEnumConstant, previousNames);
+    }
+    wireIds.put(newEnumConstant, wireIds.remove(oldEnumConstant));
+    journal("updateEnumConstant", oldEnumConstant, newEnumConstant);
     return this;
   }
 
+  /**
+   * Releases the {@code enumConstantName} from being a <em>previous name</em> of any enum constant,
+   * as it is now the name of an enum constant in the <em>currently uncommitted</em> class.
+   *
+   * @param enumConstantName to release.
+   */
+  private void releasePreviousEnumConstantName(final String enumConstantName) {
+    final String owner = previousNameOwners.remove(enumConstantName);
+    if (owner != null) {
+      final Set<String> previousNames = previousEnumConstantNames.get(owner);
+      previousNames.remove(enumConstantName);
+      if (previousNames.isEmpty()) {
+        previousEnumConstantNames.remove(owner);
+      }
+    }
+  }
+
+  /**
+   * Puts the {@code previousNames} of the {@code enumConstantName}.
+   *
+   * @param enumConstantName of the renamed enum constant.
+   * @param previousNames of the enum constant.
+   */
+  private void putPreviousNames(final String enumConstantName, final Set<String> previousNames) {
+    previousEnumConstantNames.put(enumConstantName, previousNames);
+    for (final String previousName : previousNames) {
+      previousNameOwners.put(previousName, enumConstantName);
+    }
+  }
+
+  /**
+   * Removes the <em>previous names</em> of the {@code enumConstantName}.
+   *
+   * @param enumConstantName of the enum constant.
+   * @return the removed previous names, or {@code null} if none.
+   */
+  private @Nullable Set<String> removePreviousNames(final String enumConstantName) {
+    final Set<String> previousNames = previousEnumConstantNames.remove(enumConstantName);
+    if (previousNames != null) {
+      for (final String previousName : previousNames) {
+        previousNameOwners.remove(previousName);
+      }
+    }
+    return previousNames;
+  }
+
   private static void validateEnumConstantName(final String enumConstantName) {
+    throwIfPresent(checkEnumConstantName(enumConstantName, -1));
+  }
+
+  private static @Nullable Violation checkEnumConstantName(
+      final String enumConstantName, final int index) {
     if (!enumConstantNamePredicate.test(enumConstantName)) {
-      throw ExceptionFactory.notMatchingRegExException(
-          "enumConstantName", VALID_ENUM_CONSTANT_NAME_REGEX);
+      return new Violation(
+          Rule.VALID_ENUM_CONSTANT_NAME, "enumConstantName", enumConstantName, index);
     }
-    if (ClassForge.RESERVED_KEYWORDS.contains(enumConstantName)) {
-      throw ExceptionFactory.reservedJavaKeywordException("enumConstantName");
+    if (IdentifierValidator.isReservedKeyword(enumConstantName)) {
+      return new Violation(Rule.NOT_RESERVED_KEYWORD, "enumConstantName", enumConstantName, index);
     }
+    return null;
   }
 
   @Contract(value = " -> this", pure = true)
@@ -191,15 +344,160 @@ public final class EnumBuilder extends AbstractBuilder<EnumBuilder> {
     return this;
   }
 
+  @Override
+  protected boolean isFeatureSupported(final Feature feature) {
+    return switch (feature) {
+      case JSON_CODEC, BINARY_CODEC, FLYWEIGHT, BATCH -> true;
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Additionally, <em>removing</em>, <em>renaming</em> or <em>reordering</em> enum constants is
+   * a {@link Change#MAJOR} change - as reordering changes their {@code ordinal()}, hence their
+   * order in {@code values()}, {@code compareTo} and {@code EnumSet}s, and their {@link
+   * Feature#BATCH} encoding - and <em>appending</em> enum constants is a {@link Change#MINOR}
+   * change. Widening the {@link Feature#FLYWEIGHT} layout, as a wire ID no longer fits, is a {@link
+   * Change#MAJOR} change.
+   */
+  @Override
+  protected @Nullable Change determineSemVerChange() {
+    final Change change = super.determineSemVerChange();
+    if (change == Change.MAJOR || enumConstants.equals(lastCommittedEnumConstants)) {
+      return change;
+    }
+    if (features.contains(Feature.FLYWEIGHT)
+        && lastCommittedFlyweightBytes != 0
+        && flyweightBytes() != lastCommittedFlyweightBytes) {
+      return Change.MAJOR;
+    }
+    if (enumConstants.size() <= lastCommittedEnumConstants.size()
+        || !enumConstants
+            .subList(0, lastCommittedEnumConstants.size())
+            .equals(lastCommittedEnumConstants)) {
+      return Change.MAJOR;
+    }
+    return mostSignificantChange(change, Change.MINOR);
+  }
+
+  @Override
+  protected void applyEntry(final Entry entry) {
+    switch (entry.operation()) {
+      case "addEnumConstants" -> addEnumConstants(entry.argumentsFrom(0));
+      case "removeEnumConstants" -> removeEnumConstants(entry.argumentsFrom(0));
+      case "updateEnumConstant" -> updateEnumConstant(entry.argument(0), entry.argument(1));
+      case "enumConstant" -> {
+        final String enumConstantName = entry.argument(0);
+        enumConstants.add(enumConstantName);
+        enumConstantSet.add(enumConstantName);
+        wireIds.put(enumConstantName, Integer.parseInt(entry.argument(1)));
+        if (entry.arguments().size() > 2) {
+          putPreviousNames(enumConstantName, new LinkedHashSet<>(List.of(entry.argumentsFrom(2))));
+        }
+      }
+      case "nextWireId" -> nextWireId = Integer.parseInt(entry.argument(0));
+      case "lastCommittedFlyweightBytes" ->
+          lastCommittedFlyweightBytes = Integer.parseInt(entry.argument(0));
+      case "committedEnumConstants" ->
+          committedEnumConstants.addAll(List.of(entry.argumentsFrom(0)));
+      case "lastCommittedEnumConstants" ->
+          lastCommittedEnumConstants = List.of(entry.argumentsFrom(0));
+      case "lastCommittedWireIds" -> {
+        final Map<String, Integer> parsedWireIds = new HashMap<>();
+        for (int i = 0; i < entry.arguments().size(); i += 2) {
+          parsedWireIds.put(entry.argument(i), Integer.parseInt(entry.argument(i + 1)));
+        }
+        lastCommittedWireIds = Map.copyOf(parsedWireIds);
+      }
+      default -> super.applyEntry(entry);
+    }
+  }
+
+  @Override
+  protected void snapshot(final List<Entry> snapshot) {
+    super.snapshot(snapshot);
+    for (final String enumConstant : enumConstants) {
+      final List<@Nullable String> arguments = new ArrayList<>();
+      arguments.add(enumConstant);
+      arguments.add(String.valueOf(wireIds.get(enumConstant)));
+      arguments.addAll(previousEnumConstantNames.getOrDefault(enumConstant, Set.of()));
+      snapshot.add(new Entry("enumConstant", arguments));
+    }
+    snapshot.add(new Entry("nextWireId", List.of(String.valueOf(nextWireId))));
+    snapshot.add(
+        new Entry(
+            "lastCommittedFlyweightBytes", List.of(String.valueOf(lastCommittedFlyweightBytes))));
+    snapshot.add(new Entry("committedEnumConstants", List.copyOf(committedEnumConstants)));
+    snapshot.add(new Entry("lastCommittedEnumConstants", List.copyOf(lastCommittedEnumConstants)));
+    final List<@Nullable String> committedWireIdArguments = new ArrayList<>();
+    lastCommittedWireIds.forEach(
+        (enumConstant, wireId) -> {
+          committedWireIdArguments.add(enumConstant);
+          committedWireIdArguments.add(String.valueOf(wireId));
+        });
+    snapshot.add(new Entry("lastCommittedWireIds", committedWireIdArguments));
+  }
+
+  @Override
+  protected void onCommitted() {
+    committedEnumConstants.addAll(enumConstants);
+    lastCommittedEnumConstants = List.copyOf(enumConstants);
+    lastCommittedWireIds = Map.copyOf(wireIds);
+    if (features.contains(Feature.FLYWEIGHT)) {
+      lastCommittedFlyweightBytes = flyweightBytes();
+    }
+  }
+
+  /**
+   * Determines the {@link Feature#FLYWEIGHT} width, in bytes, of the <em>currently uncommitted</em>
+   * class. The width of the <em>previously committed</em> class is kept, so that the layout only
+   * changes when a wire ID no longer fits.
+   *
+   * @return the width.
+   */
+  private int flyweightBytes() {
+    int maxWireId = -1;
+    for (final int wireId : wireIds.values()) {
+      maxWireId = Math.max(maxWireId, wireId);
+    }
+    return Math.max(FlyweightGenerator.requiredBytes(maxWireId), lastCommittedFlyweightBytes);
+  }
+
   @Override
   @SuppressWarnings({"DataFlowIssue", "NullAway"})
-  protected String generateFileContent(final SemVer semVer) {
-    final var enumModel =
-        new EnumModel<>(
-            resolveEffectivePackageName(semVer),
-            resolveEffectiveClassName(semVer),
-            enumConstants.stream().map(EnumConstantModel::new).toList());
-
-    return generateCodeFromModel(enumModel);
+  protected Model generateModel(final SemVer semVer) {
+    final String effectiveClassName = resolveEffectiveClassName(semVer);
+    final List<EnumConstantModel<Object>> enumConstantModels =
+        enumConstants.stream()
+            .map(
+                enumConstant ->
+                    new EnumConstantModel<>(
+                        enumConstant,
+                        List.copyOf(previousEnumConstantNames.getOrDefault(enumConstant, Set.of())),
+                        wireIds.get(enumConstant)))
+            .toList();
+    final List<String> members = new ArrayList<>();
+    if (features.contains(Feature.JSON_CODEC)) {
+      members.addAll(
+          JsonCodecGenerator.generateEnumMembers(effectiveClassName, enumConstantModels));
+    }
+    if (features.contains(Feature.BINARY_CODEC) || features.contains(Feature.FLYWEIGHT)) {
+      members.addAll(
+          BinaryCodecGenerator.generateEnumWireIdMembers(effectiveClassName, enumConstantModels));
+    }
+    if (features.contains(Feature.BINARY_CODEC)) {
+      members.addAll(BinaryCodecGenerator.generateEnumMembers(effectiveClassName, semVer));
+    }
+    if (features.contains(Feature.FLYWEIGHT)) {
+      members.addAll(
+          FlyweightGenerator.generateEnumMembers(effectiveClassName, flyweightBytes()));
+    }
+    if (features.contains(Feature.BATCH)) {
+      members.addAll(
+          BatchGenerator.generateEnumMembers(effectiveClassName, enumConstantModels.size()));
+    }
+    return new EnumModel<>(
+        resolveEffectivePackageName(semVer), effectiveClassName, enumConstantModels, members);
   }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import io.github.chrimle.classforge.internal.FileWriter;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+
+/**
+ * A <em>run</em> of generating classes in a {@code directory}, which records the {@code .java}
+ * files produced by each {@link Builder} of the run - see {@link
+ * Builder#setGenerationRun(GenerationRun)}. Afterwards, {@link #pruneStaleOutputs()} deletes the
+ * files generated by the <em>previous run</em>, which were not produced by <em>this</em> run.
+ *
+ * <p>Files with unchanged content are not rewritten, and classes restored from a
+ * <em>journal</em> - see {@link ClassForge#openBuilder(ClassForge.ClassType, Path)} - count as
+ * produced by the run, hence the {@code directory} can be generated incrementally instead of being
+ * cleaned.
+ *
+ * <p>Thread-safe - a single run <strong>MAY</strong> be shared by multiple {@code Builder}s. Runs
+ * of the same {@code directory} <strong>MUST NOT</strong> overlap.
+ *
+ * <p><strong>Example</strong>
+ *
+ * <pre>{@code
+ * try (final GenerationRun run = ClassForge.startRun(directory)) {
+ *   ClassForge.newEnumBuilder()
+ *       .setGenerationRun(run)
+ *       .updatePackageName("com.example")
+ *       .updateClassName("Example")
+ *       .commit();
+ *   run.pruneStaleOutputs();
+ * }
+ * }</pre>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class GenerationRun implements AutoCloseable {
+
+  private final String directory;
+  private final Path root;
+  private final Set<String> producedFiles = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param directory of generated classes.
+   */
+  GenerationRun(final String directory) {
+    this.directory = directory;
+    this.root = Path.of(directory).toAbsolutePath().normalize();
+  }
+
+  /**
+   * Returns the {@code directory} of generated classes.
+   *
+   * @return the {@code directory}.
+   * @since 0.11.0
+   */
+  public String getDirectory() {
+    return directory;
+  }
+
+  /**
+   * <em>Prunes</em> the stale outputs of the {@code directory} - i.e. the {@code .java} files which
+   * were generated by the <em>previous run</em>, but not by <em>this</em> run - and closes
+   * <em>this</em> run. Files which were not generated by ClassForge are never deleted. Afterwards,
+   * the {@code directory} records the files produced by <em>this</em> run - see {@link
+   * ClassForge#getGeneratedOutputs(String)}.
+   *
+   * @return the deleted files.
+   * @throws IllegalStateException if <em>this</em> run is closed.
+   * @since 0.11.0
+   */
+  public synchronized List<Path> pruneStaleOutputs() {
+    ensureOpen();
+    closed = true;
+    return FileWriter.pruneStaleFiles(root, Set.copyOf(producedFiles));
+  }
+
+  /**
+   * Closes <em>this</em> run, <em>without</em> pruning - hence the files generated by the
+   * <em>previous run</em> are left alone. Does nothing if already closed.
+   *
+   * @since 0.11.0
+   */
+  @Override
+  public void close() {
+    closed = true;
+  }
+
+  /**
+   * Records the file of the {@code fullyQualifiedClassName} as produced by <em>this</em> run.
+   *
+   * @param directory of the file.
+   * @param fullyQualifiedClassName of the class.
+   * @throws IllegalStateException if <em>this</em> run is closed, or if {@code directory} is not
+   *     the {@code directory} of <em>this</em> run.
+   */
+  void recordOutput(final String directory, final String fullyQualifiedClassName) {
+    ensureOpen();
+    if (!isDirectoryOf(directory)) {
+      throw new IllegalStateException(
+          "Directory `%s` is not the directory of the run `%s`"
+              .formatted(directory, this.directory));
+    }
+    producedFiles.add(FileWriter.relativePath(fullyQualifiedClassName));
+  }
+
+  /**
+   * Determines whether {@code directory} is the {@code directory} of <em>this</em> run.
+   *
+   * @param directory to compare.
+   * @return {@code true} if the same directory, otherwise {@code false}.
+   */
+  boolean isDirectoryOf(final String directory) {
+    return this.directory.equals(directory)
+        || root.equals(Path.of(directory).toAbsolutePath().normalize());
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Run of `%s` is closed".formatted(directory));
+    }
+  }
+}
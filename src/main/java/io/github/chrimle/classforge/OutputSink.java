@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import org.apiguardian.api.API;
+
+/**
+ * Destination of the source code of <em>committed</em> classes. By default, a {@link Builder}
+ * writes each class to a {@code .java} file in its {@code directory} - unless an {@code
+ * OutputSink} is set via {@link Builder#setOutputSink(OutputSink)}.
+ *
+ * <p><strong>Example: </strong> compiling and loading classes in memory, via {@link
+ * io.github.chrimle.classforge.compiler.InMemoryCompiler}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+@FunctionalInterface
+public interface OutputSink {
+
+  /**
+   * Writes the source code of a <em>committed</em> class. Invoked synchronously, on the
+   * <em>committing</em> thread.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param content of the class, as Java source code.
+   * @return {@code true} if written, or {@code false} if skipped - e.g. if the content was
+   *     unchanged.
+   * @since 0.11.0
+   */
+  boolean write(final String fullyQualifiedClassName, final String content);
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import io.github.chrimle.classforge.Builder.Feature;
+import io.github.chrimle.classforge.Builder.VersionFormat;
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge.ClassType;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.internal.JsonReader;
+import io.github.chrimle.classforge.internal.SemVerParser;
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Loads a {@link Builder} from a JSON <em>schema</em>, as described by {@link
+ * ClassForge#loadSchema(java.nio.file.Path, Consumer)}. The schema is streamed, and enum constants
+ * are added in chunks of {@value #CHUNK_SIZE} - hence neither the schema nor a tree of it is ever
+ * held in memory, only the state of the {@link Builder}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+final class SchemaLoader {
+
+  /** The maximum number of enum constants added or removed at once. */
+  static final int CHUNK_SIZE = 1 << 16;
+
+  /** The initial capacity of a chunk, which is grown as enum constants are read. */
+  static final int INITIAL_CHUNK_CAPACITY = 16;
+
+  private SchemaLoader() {}
+
+  /**
+   * Loads a {@link Builder} from the schema read by the {@code reader}, and commits each of its
+   * changesets in order.
+   *
+   * @param reader of the schema.
+   * @param configuration of the {@link Builder}, before any changeset is applied.
+   * @return the {@link Builder}.
+   * @throws IllegalArgumentException if the schema is malformed, or any changeset is invalid.
+   */
+  static Builder<?> load(final Reader reader, final Consumer<? super Builder<?>> configuration) {
+    final var json = new JsonReader(reader);
+    json.beginObject();
+    if (!json.hasNext() || !json.nextName().equals("type")) {
+      throw json.valueError("Schema member `type` MUST be first");
+    }
+    final Builder<?> builder = ClassForge.newBuilder(parseEnum(ClassType.class, "type", json));
+    configuration.accept(builder);
+    while (json.hasNext()) {
+      final String name = json.nextName();
+      switch (name) {
+        case "packageName" -> builder.updatePackageName(json.nextString());
+        case "className" -> builder.updateClassName(json.nextString());
+        case "versionFormat" ->
+            builder.setVersionFormat(parseEnum(VersionFormat.class, "versionFormat", json));
+        case "versionPlacement" ->
+            builder.setVersionPlacement(
+                parseEnum(VersionPlacement.class, "versionPlacement", json));
+        case "features" -> builder.enableFeatures(readFeatures(json));
+        case "changesets" -> {
+          json.beginArray();
+          while (json.hasNext()) {
+            applyChangeset(builder, json);
+          }
+          json.endArray();
+        }
+        default -> throw json.valueError("Schema member `%s` is unknown".formatted(name));
+      }
+    }
+    json.endObject();
+    json.endDocument();
+    return builder;
+  }
+
+  /**
+   * Applies each member of a changeset in order, and then commits it - according to its {@code
+   * commit} member, if any.
+   */
+  private static void applyChangeset(final Builder<?> builder, final JsonReader json) {
+    @Nullable String commit = null;
+    json.beginObject();
+    while (json.hasNext()) {
+      final String name = json.nextName();
+      switch (name) {
+        case "updatePackageName" -> builder.updatePackageName(json.nextString());
+        case "updateClassName" -> builder.updateClassName(json.nextString());
+        case "enableFeatures" -> builder.enableFeatures(readFeatures(json));
+        case "disableFeatures" -> builder.disableFeatures(readFeatures(json));
+        case "addEnumConstants" -> {
+          final EnumBuilder enumBuilder = enumBuilder(builder, name, json);
+          readChunks(json, enumBuilder::addEnumConstants);
+        }
+        case "removeEnumConstants" -> {
+          final EnumBuilder enumBuilder = enumBuilder(builder, name, json);
+          readChunks(json, enumBuilder::removeEnumConstants);
+        }
+        case "updateEnumConstants" -> {
+          final EnumBuilder enumBuilder = enumBuilder(builder, name, json);
+          json.beginObject();
+          while (json.hasNext()) {
+            enumBuilder.updateEnumConstant(json.nextName(), json.nextString());
+          }
+          json.endObject();
+        }
+        case "commit" -> commit = json.nextString();
+        default -> throw json.valueError("Changeset member `%s` is unknown".formatted(name));
+      }
+    }
+    json.endObject();
+    if (commit == null) {
+      builder.commit();
+    } else if (commit.equals("MAJOR") || commit.equals("MINOR") || commit.equals("PATCH")) {
+      builder.commit(Change.valueOf(commit));
+    } else {
+      builder.commit(parseSemVer(commit, json));
+    }
+  }
+
+  private static EnumBuilder enumBuilder(
+      final Builder<?> builder, final String name, final JsonReader json) {
+    if (builder instanceof final EnumBuilder enumBuilder) {
+      return enumBuilder;
+    }
+    throw json.valueError("Changeset member `%s` requires `type` ENUM".formatted(name));
+  }
+
+  /**
+   * Reads an array of strings, and passes them on in chunks of {@value #CHUNK_SIZE}. The chunk
+   * starts at {@value #INITIAL_CHUNK_CAPACITY}, and only grows as far as the array requires.
+   */
+  private static void readChunks(final JsonReader json, final Consumer<String[]> consumer) {
+    var chunk = new String[INITIAL_CHUNK_CAPACITY];
+    int size = 0;
+    json.beginArray();
+    while (json.hasNext()) {
+      if (size == chunk.length) {
+        chunk = Arrays.copyOf(chunk, Math.min(size * 2, CHUNK_SIZE));
+      }
+      chunk[size++] = json.nextString();
+      if (size == CHUNK_SIZE) {
+        consumer.accept(chunk);
+        chunk = new String[INITIAL_CHUNK_CAPACITY];
+        size = 0;
+      }
+    }
+    json.endArray();
+    if (size > 0) {
+      consumer.accept(Arrays.copyOf(chunk, size));
+    }
+  }
+
+  private static Feature[] readFeatures(final JsonReader json) {
+    final List<Feature> features = new ArrayList<>();
+    json.beginArray();
+    while (json.hasNext()) {
+      features.add(parseEnum(Feature.class, "feature", json));
+    }
+    json.endArray();
+    return features.toArray(new Feature[0]);
+  }
+
+  private static <E extends Enum<E>> E parseEnum(
+      final Class<E> enumClass, final String type, final JsonReader json) {
+    final String name = json.nextString();
+    try {
+      return Enum.valueOf(enumClass, name);
+    } catch (final IllegalArgumentException e) {
+      throw ExceptionFactory.notSupportedException(type, name);
+    }
+  }
+
+  private static SemVer parseSemVer(final String semVer, final JsonReader json) {
+    final SemVer parsedSemVer = SemVerParser.parse(semVer);
+    if (parsedSemVer == null) {
+      throw json.valueError("Changeset `commit` `%s` is malformed".formatted(semVer));
+    }
+    return parsedSemVer;
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The result of validating in <em>bulk</em>, holding <strong>every</strong> {@link Violation} found
+ * in a single pass - without throwing an exception per invalid value.
+ *
+ * @param violations found, in the order they were found.
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public record ValidationResult(List<Violation> violations) {
+
+  /** A {@code ValidationResult} without any {@link Violation}s. */
+  private static final ValidationResult VALID = new ValidationResult(List.of());
+
+  /**
+   * Constructor.
+   *
+   * @param violations found, in the order they were found.
+   * @since 0.11.0
+   */
+  public ValidationResult {
+    violations = List.copyOf(violations);
+  }
+
+  /**
+   * Returns a {@code ValidationResult} of the {@code violations}.
+   *
+   * @param violations found.
+   * @return the {@code ValidationResult}.
+   */
+  static ValidationResult of(final List<Violation> violations) {
+    return violations.isEmpty() ? VALID : new ValidationResult(violations);
+  }
+
+  /**
+   * Determines whether no {@link Violation}s were found.
+   *
+   * @return {@code true} if valid, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public boolean isValid() {
+    return violations.isEmpty();
+  }
+
+  /**
+   * Throws the exception of the <em>first</em> {@link Violation}, if any - the same exception as
+   * the corresponding <em>throwing</em> method would.
+   *
+   * @throws IllegalArgumentException if any {@link Violation} was found.
+   * @since 0.11.0
+   */
+  public void throwIfInvalid() {
+    if (!violations.isEmpty()) {
+      throw violations.get(0).toException();
+    }
+  }
+
+  /**
+   * The <em>rule</em> which a {@link Violation} violates.
+   *
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  public enum Rule {
+    /**
+     * The value <strong>MUST NOT</strong> be {@code null}.
+     *
+     * @since 0.11.0
+     */
+    NOT_NULL,
+    /**
+     * The values <strong>MUST NOT</strong> be {@code null}, empty or contain {@code null}.
+     *
+     * @since 0.11.0
+     */
+    NOT_NULL_OR_EMPTY,
+    /**
+     * The value <strong>MUST</strong> match {@link ClassForge#VALID_CLASS_NAME_REGEX}.
+     *
+     * @since 0.11.0
+     */
+    VALID_CLASS_NAME,
+    /**
+     * The value <strong>MUST</strong> match {@link ClassForge#VALID_PACKAGE_NAME_REGEX}.
+     *
+     * @since 0.11.0
+     */
+    VALID_PACKAGE_NAME,
+    /**
+     * The value <strong>MUST</strong> match {@link EnumBuilder#VALID_ENUM_CONSTANT_NAME_REGEX}.
+     *
+     * @since 0.11.0
+     */
+    VALID_ENUM_CONSTANT_NAME,
+    /**
+     * The value <strong>MUST NOT</strong> be one of {@link ClassForge#RESERVED_KEYWORDS}.
+     *
+     * @since 0.11.0
+     */
+    NOT_RESERVED_KEYWORD,
+    /**
+     * The value <strong>MUST NOT</strong> be provided more than once.
+     *
+     * @since 0.11.0
+     */
+    NOT_DUPLICATE,
+    /**
+     * The value <strong>MUST NOT</strong> already exist in the <em>currently uncommitted</em>
+     * class.
+     *
+     * @since 0.11.0
+     */
+    NOT_EXISTING
+  }
+
+  /**
+   * A violation of a {@link Rule}.
+   *
+   * @param rule which was violated.
+   * @param key of the violating value, such as {@code "className"}.
+   * @param value which violated the {@code rule}.
+   * @param index of the {@code value} in the validated values, or {@code -1} if not applicable.
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  public record Violation(Rule rule, String key, @Nullable String value, int index) {
+
+    /**
+     * Creates the exception of <em>this</em> {@code Violation} - the same exception as the
+     * corresponding <em>throwing</em> method would. Only intended to be created on demand.
+     *
+     * @return the exception.
+     * @since 0.11.0
+     */
+    public IllegalArgumentException toException() {
+      return switch (rule) {
+        case NOT_NULL -> ExceptionFactory.nullException(key);
+        case NOT_NULL_OR_EMPTY -> ExceptionFactory.nullOrEmptyException(key);
+        case VALID_CLASS_NAME ->
+            ExceptionFactory.notMatchingRegExException(key, ClassForge.VALID_CLASS_NAME_REGEX);
+        case VALID_PACKAGE_NAME ->
+            ExceptionFactory.notMatchingRegExException(key, ClassForge.VALID_PACKAGE_NAME_REGEX);
+        case VALID_ENUM_CONSTANT_NAME ->
+            ExceptionFactory.notMatchingRegExException(
+                key, EnumBuilder.VALID_ENUM_CONSTANT_NAME_REGEX);
+        case NOT_RESERVED_KEYWORD -> ExceptionFactory.reservedJavaKeywordException(key);
+        case NOT_DUPLICATE ->
+            new IllegalArgumentException("Duplicate Enum constant names were provided!");
+        case NOT_EXISTING -> ExceptionFactory.alreadyExistsException("enum constant", value);
+      };
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import io.github.chrimle.classforge.OutputSink;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compiles generated classes to {@code .class} files, by sending every source of a run to a
+ * <em>single</em> {@link JavaCompiler.CompilationTask}. Compared to compiling each class
+ * separately, the compiler is initialized - and the JDK classes are resolved - only once per run.
+ * Every instance shares the system {@link JavaCompiler}, and reuses its own {@link
+ * StandardJavaFileManager} across runs.
+ *
+ * <p>Sources are either collected as an {@link OutputSink} until {@link #compilePending()}, or read
+ * from source files previously written to disk. The class output directory is on the class path of
+ * each compilation, hence classes <strong>MAY</strong> reference classes compiled in a previous
+ * run.
+ *
+ * <p><strong>Example</strong>
+ *
+ * <pre>{@code
+ * try (final var compiler = new BatchCompiler(Path.of("target/classes"))) {
+ *   final var builder = ClassForge.newEnumBuilder().setOutputSink(compiler);
+ *   for (final String className : classNames) {
+ *     builder.updateClassName(className).commit();
+ *   }
+ *   compiler.compilePending();
+ * }
+ * }</pre>
+ *
+ * <p><strong>NOTE:</strong> requires a JDK, as a JRE does not provide a {@link JavaCompiler}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class BatchCompiler implements OutputSink, AutoCloseable {
+
+  private final Map<String, String> pendingSources = new LinkedHashMap<>();
+  private final Path classOutputDirectory;
+  private @Nullable StandardJavaFileManager standardFileManager;
+
+  /**
+   * Constructor.
+   *
+   * @param classOutputDirectory to write {@code .class} files to.
+   * @throws IllegalArgumentException if {@code classOutputDirectory} is {@code null}.
+   * @throws IllegalStateException if no system {@link JavaCompiler} is available.
+   * @since 0.11.0
+   */
+  @SuppressWarnings("ConstantValue")
+  public BatchCompiler(final Path classOutputDirectory) {
+    if (classOutputDirectory == null) {
+      throw ExceptionFactory.nullException("classOutputDirectory");
+    }
+    Compilers.javaCompiler();
+    this.classOutputDirectory = classOutputDirectory;
+  }
+
+  /**
+   * Collects the source code of a <em>committed</em> class, to be compiled by {@link
+   * #compilePending()}.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param content of the class, as Java source code.
+   * @return {@code true}.
+   * @since 0.11.0
+   */
+  @Override
+  public synchronized boolean write(final String fullyQualifiedClassName, final String content) {
+    pendingSources.put(fullyQualifiedClassName, content);
+    return true;
+  }
+
+  /**
+   * Compiles every class collected by {@link #write(String, String)} since the previous
+   * invocation, in a single compilation.
+   *
+   * @return the number of compiled sources.
+   * @throws IllegalStateException if compilation fails.
+   * @since 0.11.0
+   */
+  public synchronized int compilePending() {
+    final List<JavaFileObject> compilationUnits = new ArrayList<>(pendingSources.size());
+    for (final Map.Entry<String, String> source : pendingSources.entrySet()) {
+      compilationUnits.add(new SourceFile(source.getKey(), source.getValue()));
+    }
+    pendingSources.clear();
+    return runJavac(compilationUnits);
+  }
+
+  /**
+   * Compiles the {@code sourceFiles}, in a single compilation.
+   *
+   * @param sourceFiles to compile.
+   * @return the number of compiled sources.
+   * @throws IllegalArgumentException if {@code sourceFiles} is, or contains, {@code null}.
+   * @throws IllegalStateException if compilation fails.
+   * @since 0.11.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public synchronized int compile(final Collection<Path> sourceFiles) {
+    if (sourceFiles == null) {
+      throw ExceptionFactory.nullException("sourceFiles");
+    }
+    final List<Path> paths = new ArrayList<>(sourceFiles.size());
+    for (final Path sourceFile : sourceFiles) {
+      if (sourceFile == null) {
+        throw ExceptionFactory.nullException("sourceFile");
+      }
+      paths.add(sourceFile);
+    }
+    final List<JavaFileObject> compilationUnits = new ArrayList<>(paths.size());
+    standardFileManager().getJavaFileObjectsFromPaths(paths).forEach(compilationUnits::add);
+    return runJavac(compilationUnits);
+  }
+
+  /**
+   * Compiles every {@code .java} file in the {@code sourceDirectory}, and its subdirectories, in a
+   * single compilation. Typically, the {@code sourceDirectory} is the directory which classes have
+   * been generated to.
+   *
+   * @param sourceDirectory to compile.
+   * @return the number of compiled sources.
+   * @throws IllegalArgumentException if {@code sourceDirectory} is {@code null}.
+   * @throws IllegalStateException if compilation fails.
+   * @since 0.11.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public synchronized int compileDirectory(final Path sourceDirectory) {
+    if (sourceDirectory == null) {
+      throw ExceptionFactory.nullException("sourceDirectory");
+    }
+    final List<Path> sourceFiles;
+    try (final Stream<Path> paths = Files.walk(sourceDirectory)) {
+      sourceFiles =
+          paths
+              .filter(Files::isRegularFile)
+              .filter(path -> path.getFileName().toString().endsWith(".java"))
+              .sorted()
+              .toList();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return compile(sourceFiles);
+  }
+
+  /**
+   * Closes the reused {@link StandardJavaFileManager}. A subsequent compilation opens a new {@code
+   * StandardJavaFileManager}.
+   *
+   * @since 0.11.0
+   */
+  @Override
+  public synchronized void close() {
+    if (standardFileManager != null) {
+      try {
+        standardFileManager.close();
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+      standardFileManager = null;
+    }
+  }
+
+  private int runJavac(final List<JavaFileObject> compilationUnits) {
+    if (compilationUnits.isEmpty()) {
+      return 0;
+    }
+    final var fileManager = standardFileManager();
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    final boolean success =
+        Compilers.javaCompiler()
+            .getTask(null, fileManager, diagnostics, List.of("-proc:none"), null, compilationUnits)
+            .call();
+    if (!success) {
+      throw Compilers.compilationFailure(diagnostics);
+    }
+    return compilationUnits.size();
+  }
+
+  private StandardJavaFileManager standardFileManager() {
+    if (standardFileManager == null) {
+      final var fileManager =
+          Compilers.javaCompiler().getStandardFileManager(null, Locale.ROOT, null);
+      try {
+        Files.createDirectories(classOutputDirectory);
+        final List<File> classPath = new ArrayList<>();
+        final Iterable<? extends File> defaultClassPath =
+            fileManager.getLocation(StandardLocation.CLASS_PATH);
+        if (defaultClassPath != null) {
+          defaultClassPath.forEach(classPath::add);
+        }
+        classPath.add(classOutputDirectory.toFile());
+        fileManager.setLocation(StandardLocation.CLASS_PATH, classPath);
+        fileManager.setLocation(
+            StandardLocation.CLASS_OUTPUT, List.of(classOutputDirectory.toFile()));
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+      standardFileManager = fileManager;
+    }
+    return standardFileManager;
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import io.github.chrimle.classforge.Builder;
+import io.github.chrimle.classforge.ClassFileSink;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Defines <em>committed</em> classes at runtime, directly from their {@code .class} files - without
+ * writing to the filesystem or invoking {@code javac}. Set as the {@link ClassFileSink} of a
+ * {@link Builder}, each class is defined as it is <em>committed</em>.
+ *
+ * <p>Classes are defined either by a dedicated {@link ClassLoader} per instance, or as <em>hidden
+ * classes</em> via {@link MethodHandles.Lookup#defineHiddenClass(byte[], boolean,
+ * MethodHandles.Lookup.ClassOption...)}. In both cases, the defined classes <strong>MAY</strong>
+ * be unloaded once neither the instance nor any of its classes are reachable.
+ *
+ * <p><strong>Example</strong>
+ *
+ * <pre>{@code
+ * final var classDefiner = new ClassDefiner();
+ * ClassForge.newEnumBuilder()
+ *     .setClassFileSink(classDefiner)
+ *     .updateClassName("Example")
+ *     .commit();
+ * final Class<?> example = classDefiner.getDefinedClass("Example");
+ * }</pre>
+ *
+ * <p><strong>NOTE:</strong> hidden classes are defined in the <em>package</em> of the {@link
+ * MethodHandles.Lookup}, hence the {@code packageName} of each class <strong>MUST</strong> be
+ * equal to it. Hidden classes can not be referenced by name, but only via {@link
+ * #getDefinedClass(String)} - hence an {@code enum}, which references its own array type by name,
+ * can not be defined as a hidden class.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class ClassDefiner implements ClassFileSink {
+
+  private final Map<String, byte[]> classFiles = new ConcurrentHashMap<>();
+  private final Map<String, Class<?>> definedClasses = new LinkedHashMap<>();
+  private final @Nullable ClassLoader classLoader;
+  private final MethodHandles.@Nullable Lookup lookup;
+
+  /**
+   * Constructor. Classes are defined by a dedicated {@link ClassLoader}, with the {@link
+   * ClassLoader} of ClassForge as parent.
+   *
+   * @since 0.11.0
+   */
+  public ClassDefiner() {
+    this(ClassDefiner.class.getClassLoader());
+  }
+
+  /**
+   * Constructor. Classes are defined by a dedicated {@link ClassLoader}.
+   *
+   * @param parent {@link ClassLoader} of the defined classes.
+   * @throws IllegalArgumentException if {@code parent} is {@code null}.
+   * @since 0.11.0
+   */
+  @SuppressWarnings("ConstantValue")
+  public ClassDefiner(final ClassLoader parent) {
+    if (parent == null) {
+      throw ExceptionFactory.nullException("parent");
+    }
+    this.classLoader = new InMemoryClassLoader(parent, classFiles);
+    this.lookup = null;
+  }
+
+  private ClassDefiner(final MethodHandles.Lookup lookup) {
+    this.classLoader = null;
+    this.lookup = lookup;
+  }
+
+  /**
+   * Creates a {@code ClassDefiner} which defines classes as <em>hidden classes</em>, in the
+   * <em>package</em> of the {@code lookup}. Each hidden class is unloaded once it is no longer
+   * reachable, independently of any other class. Only {@code class}-classes are supported.
+   *
+   * @param lookup with full privilege access.
+   * @return the {@code ClassDefiner}.
+   * @throws IllegalArgumentException if {@code lookup} is {@code null}, or does not have full
+   *     privilege access.
+   * @since 0.11.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public static ClassDefiner hidden(final MethodHandles.Lookup lookup) {
+    if (lookup == null) {
+      throw ExceptionFactory.nullException("lookup");
+    }
+    if (!lookup.hasFullPrivilegeAccess()) {
+      throw new IllegalArgumentException(
+          "Lookup `%s` does not have full privilege access".formatted(lookup));
+    }
+    return new ClassDefiner(lookup);
+  }
+
+  /**
+   * Defines a <em>committed</em> class, and initializes it.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param classFile of the class.
+   * @return {@code true}.
+   * @throws IllegalStateException if the class has already been defined, or could not be defined.
+   * @since 0.11.0
+   */
+  @Override
+  @SuppressWarnings({"DataFlowIssue", "NullAway"})
+  public synchronized boolean write(final String fullyQualifiedClassName, final byte[] classFile) {
+    if (definedClasses.containsKey(fullyQualifiedClassName)) {
+      throw new IllegalStateException(
+          "Class `%s` has already been defined!".formatted(fullyQualifiedClassName));
+    }
+    final Class<?> definedClass;
+    try {
+      if (lookup != null) {
+        definedClass = defineHiddenClass(lookup, fullyQualifiedClassName, classFile);
+      } else {
+        classFiles.put(fullyQualifiedClassName, classFile);
+        definedClass = Class.forName(fullyQualifiedClassName, true, classLoader);
+      }
+    } catch (final ReflectiveOperationException | LinkageError e) {
+      classFiles.remove(fullyQualifiedClassName);
+      throw new IllegalStateException(
+          "Class `%s` could not be defined!".formatted(fullyQualifiedClassName), e);
+    }
+    definedClasses.put(fullyQualifiedClassName, definedClass);
+    return true;
+  }
+
+  /**
+   * Returns the defined class of the {@code fullyQualifiedClassName}.
+   *
+   * @param fullyQualifiedClassName of the class, as <em>committed</em>.
+   * @return the defined class, or {@code null} if not defined.
+   * @since 0.11.0
+   */
+  public synchronized @Nullable Class<?> getDefinedClass(final String fullyQualifiedClassName) {
+    return definedClasses.get(fullyQualifiedClassName);
+  }
+
+  /**
+   * Returns every defined class, in the order of definition.
+   *
+   * @return the defined classes, by <em>Fully Qualified Class Name</em> as <em>committed</em>.
+   * @since 0.11.0
+   */
+  public synchronized Map<String, Class<?>> getDefinedClasses() {
+    return Collections.unmodifiableMap(new LinkedHashMap<>(definedClasses));
+  }
+
+  private static Class<?> defineHiddenClass(
+      final MethodHandles.Lookup lookup,
+      final String fullyQualifiedClassName,
+      final byte[] classFile)
+      throws IllegalAccessException {
+    final int lastDot = fullyQualifiedClassName.lastIndexOf('.');
+    final String packageName = lastDot < 0 ? "" : fullyQualifiedClassName.substring(0, lastDot);
+    final String lookupPackageName = lookup.lookupClass().getPackageName();
+    if (!packageName.equals(lookupPackageName)) {
+      throw new IllegalStateException(
+          "Class `%s` is not in the package `%s` of the lookup!"
+              .formatted(fullyQualifiedClassName, lookupPackageName));
+    }
+    return lookup.defineHiddenClass(classFile, true).lookupClass();
+  }
+}
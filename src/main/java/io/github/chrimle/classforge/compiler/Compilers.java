@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import java.util.Locale;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import org.jspecify.annotations.Nullable;
+
+/** Shared state and helpers of the compilers. */
+final class Compilers {
+
+  /** The system {@link JavaCompiler}, shared by every compiler. */
+  private static final @Nullable JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+  private Compilers() {}
+
+  /**
+   * Returns the system {@link JavaCompiler}.
+   *
+   * @return the {@code JavaCompiler}.
+   * @throws IllegalStateException if no system {@link JavaCompiler} is available.
+   */
+  static JavaCompiler javaCompiler() {
+    if (javaCompiler == null) {
+      throw new IllegalStateException(
+          "No system Java compiler available. Are you running on a JRE instead of a JDK?");
+    }
+    return javaCompiler;
+  }
+
+  /**
+   * Creates the exception of a failed compilation, with the message of each error.
+   *
+   * @param diagnostics of the compilation.
+   * @return the exception.
+   */
+  static IllegalStateException compilationFailure(
+      final DiagnosticCollector<JavaFileObject> diagnostics) {
+    final var message = new StringBuilder("Compilation failed!");
+    for (final Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+      if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+        continue;
+      }
+      message.append('\n');
+      if (diagnostic.getSource() != null) {
+        message
+            .append(diagnostic.getSource().getName())
+            .append(':')
+            .append(diagnostic.getLineNumber())
+            .append(": ");
+      }
+      message.append(diagnostic.getMessage(Locale.ROOT));
+    }
+    return new IllegalStateException(message.toString());
+  }
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import io.github.chrimle.classforge.OutputSink;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Compiles generated classes <em>in memory</em>, and loads them - without writing either source or
+ * class files to disk. Every instance shares the system {@link JavaCompiler}, and reuses its own
+ * {@link StandardJavaFileManager} across compilations.
+ *
+ * <p>As an {@link OutputSink}, <em>committed</em> classes are collected until {@link
+ * #compilePending()}. Classes compiled by the same instance <strong>MAY</strong> reference each
+ * other, and are loaded by the same {@link ClassLoader}.
+ *
+ * <p><strong>Example</strong>
+ *
+ * <pre>{@code
+ * final var compiler = new InMemoryCompiler();
+ * ClassForge.newEnumBuilder()
+ *     .setOutputSink(compiler)
+ *     .updateClassName("Example")
+ *     .commit();
+ * final Class<?> example = compiler.compilePending().get("Example");
+ * }</pre>
+ *
+ * <p><strong>NOTE:</strong> requires a JDK, as a JRE does not provide a {@link JavaCompiler}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class InMemoryCompiler implements OutputSink, AutoCloseable {
+
+  private final Map<String, String> pendingSources = new LinkedHashMap<>();
+  private final Map<String, byte[]> classFiles = new ConcurrentHashMap<>();
+  private final ClassLoader classLoader;
+  private @Nullable StandardJavaFileManager standardFileManager;
+
+  /**
+   * Constructor. Classes are loaded by a {@link ClassLoader} with the {@link ClassLoader} of
+   * ClassForge as parent.
+   *
+   * @throws IllegalStateException if no system {@link JavaCompiler} is available.
+   * @since 0.11.0
+   */
+  public InMemoryCompiler() {
+    this(InMemoryCompiler.class.getClassLoader());
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param parent {@link ClassLoader} of the loaded classes.
+   * @throws IllegalArgumentException if {@code parent} is {@code null}.
+   * @throws IllegalStateException if no system {@link JavaCompiler} is available.
+   * @since 0.11.0
+   */
+  @SuppressWarnings("ConstantValue")
+  public InMemoryCompiler(final ClassLoader parent) {
+    if (parent == null) {
+      throw ExceptionFactory.nullException("parent");
+    }
+    Compilers.javaCompiler();
+    this.classLoader = new InMemoryClassLoader(parent, classFiles);
+  }
+
+  /**
+   * Collects the source code of a <em>committed</em> class, to be compiled by {@link
+   * #compilePending()}.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @param content of the class, as Java source code.
+   * @return {@code true}.
+   * @since 0.11.0
+   */
+  @Override
+  public synchronized boolean write(final String fullyQualifiedClassName, final String content) {
+    pendingSources.put(fullyQualifiedClassName, content);
+    return true;
+  }
+
+  /**
+   * Compiles and loads every class collected by {@link #write(String, String)} since the previous
+   * invocation.
+   *
+   * @return the loaded classes, by <em>Fully Qualified Class Name</em>.
+   * @throws IllegalStateException if compilation fails.
+   * @since 0.11.0
+   */
+  public synchronized Map<String, Class<?>> compilePending() {
+    final Map<String, String> sources = new LinkedHashMap<>(pendingSources);
+    pendingSources.clear();
+    return compile(sources);
+  }
+
+  /**
+   * Compiles and loads the {@code sources}, in a single compilation.
+   *
+   * @param sources to compile, by <em>Fully Qualified Class Name</em>.
+   * @return the loaded classes, by <em>Fully Qualified Class Name</em>.
+   * @throws IllegalArgumentException if {@code sources} is {@code null}.
+   * @throws IllegalStateException if a class has already been compiled, or compilation fails.
+   * @since 0.11.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract", "DataFlowIssue", "NullAway"})
+  public synchronized Map<String, Class<?>> compile(final Map<String, String> sources) {
+    if (sources == null) {
+      throw ExceptionFactory.nullException("sources");
+    }
+    final List<JavaFileObject> compilationUnits = new ArrayList<>(sources.size());
+    for (final Map.Entry<String, String> source : sources.entrySet()) {
+      if (classFiles.containsKey(source.getKey())) {
+        throw new IllegalStateException(
+            "Class `%s` has already been compiled!".formatted(source.getKey()));
+      }
+      compilationUnits.add(new SourceFile(source.getKey(), source.getValue()));
+    }
+    final Map<String, Class<?>> classes = new LinkedHashMap<>();
+    if (compilationUnits.isEmpty()) {
+      return classes;
+    }
+
+    final var fileManager = new InMemoryFileManager(standardFileManager(), classFiles);
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+    final boolean success =
+        Compilers.javaCompiler()
+            .getTask(null, fileManager, diagnostics, List.of("-proc:none"), null, compilationUnits)
+            .call();
+    if (!success) {
+      throw Compilers.compilationFailure(diagnostics);
+    }
+    classFiles.putAll(fileManager.outputs);
+    try {
+      for (final String fullyQualifiedClassName : sources.keySet()) {
+        classes.put(
+            fullyQualifiedClassName, Class.forName(fullyQualifiedClassName, true, classLoader));
+      }
+    } catch (final ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+    return classes;
+  }
+
+  /**
+   * Returns the {@link ClassLoader} of every compiled class.
+   *
+   * @return the {@code ClassLoader}.
+   * @since 0.11.0
+   */
+  public ClassLoader getClassLoader() {
+    return classLoader;
+  }
+
+  /**
+   * Closes the reused {@link StandardJavaFileManager}. Compiled classes remain loaded, and a
+   * subsequent compilation opens a new {@code StandardJavaFileManager}.
+   *
+   * @since 0.11.0
+   */
+  @Override
+  public synchronized void close() {
+    if (standardFileManager != null) {
+      try {
+        standardFileManager.close();
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+      standardFileManager = null;
+    }
+  }
+
+  private StandardJavaFileManager standardFileManager() {
+    if (standardFileManager == null) {
+      standardFileManager =
+          Compilers.javaCompiler().getStandardFileManager(null, Locale.ROOT, null);
+    }
+    return standardFileManager;
+  }
+
+  /** Compiled {@code .class} file of a class, in memory. */
+  private static final class ClassFile extends SimpleJavaFileObject {
+
+    private final String binaryName;
+    private final Map<String, byte[]> classFiles;
+
+    ClassFile(final String binaryName, final Map<String, byte[]> classFiles) {
+      super(URI.create("bytes:///" + binaryName.replace('.', '/') + ".class"), Kind.CLASS);
+      this.binaryName = binaryName;
+      this.classFiles = classFiles;
+    }
+
+    @Override
+    public InputStream openInputStream() {
+      return new ByteArrayInputStream(classFiles.getOrDefault(binaryName, new byte[0]));
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      return new ByteArrayOutputStream() {
+        @Override
+        public void close() {
+          classFiles.put(binaryName, toByteArray());
+        }
+      };
+    }
+  }
+
+  /**
+   * {@link JavaFileManager} which writes {@code .class} files to memory, and lists previously
+   * compiled classes on the class path.
+   */
+  private static final class InMemoryFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, byte[]> compiledClassFiles;
+    private final Map<String, byte[]> outputs = new LinkedHashMap<>();
+
+    InMemoryFileManager(
+        final StandardJavaFileManager fileManager, final Map<String, byte[]> compiledClassFiles) {
+      super(fileManager);
+      this.compiledClassFiles = compiledClassFiles;
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(
+        final Location location,
+        final String className,
+        final JavaFileObject.Kind kind,
+        final FileObject sibling) {
+      return new ClassFile(className, outputs);
+    }
+
+    @Override
+    public Iterable<JavaFileObject> list(
+        final Location location,
+        final String packageName,
+        final Set<JavaFileObject.Kind> kinds,
+        final boolean recurse)
+        throws IOException {
+      final Iterable<JavaFileObject> files = super.list(location, packageName, kinds, recurse);
+      if (location != StandardLocation.CLASS_PATH
+          || !kinds.contains(JavaFileObject.Kind.CLASS)
+          || compiledClassFiles.isEmpty()) {
+        return files;
+      }
+      final List<JavaFileObject> result = new ArrayList<>();
+      files.forEach(result::add);
+      for (final String binaryName : compiledClassFiles.keySet()) {
+        final int lastDot = binaryName.lastIndexOf('.');
+        final String classPackageName = lastDot < 0 ? "" : binaryName.substring(0, lastDot);
+        if (classPackageName.equals(packageName)
+            || (recurse && classPackageName.startsWith(packageName + "."))) {
+          result.add(new ClassFile(binaryName, compiledClassFiles));
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public String inferBinaryName(final Location location, final JavaFileObject file) {
+      if (file instanceof ClassFile classFile) {
+        return classFile.binaryName;
+      }
+      return super.inferBinaryName(location, file);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import java.net.URI;
+import javax.tools.SimpleJavaFileObject;
+
+/** Java source code of a class, in memory. */
+final class SourceFile extends SimpleJavaFileObject {
+
+  private final String content;
+
+  SourceFile(final String fullyQualifiedClassName, final String content) {
+    super(
+        URI.create("string:///" + fullyQualifiedClassName.replace('.', '/') + ".java"),
+        Kind.SOURCE);
+    this.content = content;
+  }
+
+  @Override
+  public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+    return content;
+  }
+}
@@ -0,0 +1,495 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.daemon;
+
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import io.github.chrimle.classforge.GenerationRun;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.internal.JsonReader;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A long-lived generator process, which accepts generation requests over {@code stdin} or a local
+ * <em>Unix domain socket</em> - hence each request reuses the warm template engine and
+ * JIT-compiled code of the process, instead of paying for JVM startup.
+ *
+ * <p>Each request and response is a single line of JSON. A request loads the given schema files -
+ * see {@link ClassForge#loadSchema(Path, java.util.function.Consumer)} - into its {@code
+ * directory}, and then prunes its stale outputs - unless {@code prune} is {@code false}. The
+ * {@code id} of a request is echoed in its response.
+ *
+ * <pre>{@code
+ * > {"id": "1", "directory": "/build/generated", "schemas": ["/build/colors.json"]}
+ * < {"id":"1","status":"OK","schemas":1,"pruned":0,"millis":12}
+ * > {"id": "2", "command": "shutdown"}
+ * < {"id":"2","status":"OK"}
+ * }</pre>
+ *
+ * <p>Requests are handled concurrently - including requests from different connections, e.g. of
+ * many build agents on the same machine. Requests to the same {@code directory} are handled one at
+ * a time, as each one is a separate {@link GenerationRun}.
+ *
+ * <p><strong>Usage: </strong> {@code java -m io.github.chrimle.classforge/io.github.chrimle
+ * .classforge.daemon.ClassForgeDaemon [--socket <path>] [--threads <count>]}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class ClassForgeDaemon implements AutoCloseable {
+
+  private final ExecutorService workers;
+  private final ExecutorService connections = Executors.newCachedThreadPool();
+  private final Map<Path, DirectoryLock> directoryLocks = new ConcurrentHashMap<>();
+  private volatile boolean shutdown;
+  private volatile @Nullable ServerSocketChannel serverChannel;
+
+  /**
+   * Constructor. Warms up the template engine, by rendering a class and an {@code enum} class
+   * without writing them.
+   *
+   * @param threads the maximum number of requests handled concurrently.
+   * @throws IllegalArgumentException if {@code threads} is not positive.
+   * @since 0.11.0
+   */
+  public ClassForgeDaemon(final int threads) {
+    if (threads < 1) {
+      throw ExceptionFactory.outOfRangeException(
+          "threads", "[1, %d]".formatted(Integer.MAX_VALUE));
+    }
+    this.workers = Executors.newFixedThreadPool(threads);
+    ClassForge.newClassBuilder()
+        .setOutputSink((fullyQualifiedClassName, content) -> false)
+        .updatePackageName("warmup")
+        .updateClassName("Warmup")
+        .commit();
+    ((EnumBuilder) ClassForge.newEnumBuilder())
+        .setOutputSink((fullyQualifiedClassName, content) -> false)
+        .updatePackageName("warmup")
+        .updateClassName("Warmup")
+        .addEnumConstants("WARMUP")
+        .commit();
+  }
+
+  /**
+   * Starts a daemon, serving {@code stdin} and {@code stdout} - or a Unix domain socket, if {@code
+   * --socket <path>} is given.
+   *
+   * @param args of the daemon.
+   * @throws IOException if the daemon could not be served.
+   * @since 0.11.0
+   */
+  public static void main(final String[] args) throws IOException {
+    Path socketFile = null;
+    int threads = Runtime.getRuntime().availableProcessors();
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--socket" -> socketFile = Path.of(argumentValue(args, ++i));
+        case "--threads" -> threads = Integer.parseInt(argumentValue(args, ++i));
+        default -> throw new IllegalArgumentException("Unknown argument `%s`".formatted(args[i]));
+      }
+    }
+    try (final var daemon = new ClassForgeDaemon(threads)) {
+      if (socketFile != null) {
+        daemon.serve(socketFile);
+      } else {
+        daemon.serve(System.in, System.out);
+      }
+    }
+  }
+
+  /**
+   * Serves requests on the Unix domain socket at {@code socketFile}, until a {@code shutdown}
+   * request or {@link #close()}. Each connection <strong>MAY</strong> send any number of requests.
+   * A file left at {@code socketFile} by a previous daemon is replaced, and the socket file is
+   * deleted afterwards. On POSIX file systems, only the owner of the daemon may connect to it - as
+   * each request may write to, and prune, any directory the owner may write to.
+   *
+   * @param socketFile of the socket.
+   * @throws IllegalArgumentException if {@code socketFile} is {@code null}.
+   * @throws IOException if the socket could not be bound.
+   * @since 0.11.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void serve(final Path socketFile) throws IOException {
+    if (socketFile == null) {
+      throw ExceptionFactory.nullException("socketFile");
+    }
+    // Bound in a directory of the owner first, hence clients never connect before it is listening,
+    // nor before its permissions are restricted.
+    final Path parent = socketFile.toAbsolutePath().getParent();
+    final boolean posix = parent.getFileSystem().supportedFileAttributeViews().contains("posix");
+    final Path bindDirectory =
+        posix
+            ? Files.createTempDirectory(
+                parent,
+                ".class-forge-daemon",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")))
+            : Files.createTempDirectory(parent, ".class-forge-daemon");
+    final Path boundFile = bindDirectory.resolve("daemon.sock");
+    try (final ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+      server.bind(UnixDomainSocketAddress.of(boundFile));
+      if (posix) {
+        Files.setPosixFilePermissions(boundFile, PosixFilePermissions.fromString("rw-------"));
+      }
+      Files.move(boundFile, socketFile, StandardCopyOption.REPLACE_EXISTING);
+      serverChannel = server;
+      while (!shutdown) {
+        final SocketChannel connection;
+        try {
+          connection = server.accept();
+        } catch (final ClosedChannelException e) {
+          break;
+        }
+        connections.execute(
+            () -> {
+              try (connection) {
+                serve(Channels.newInputStream(connection), newOutputStream(connection));
+              } catch (final IOException e) {
+                // The client disconnected - its pending responses are discarded.
+              }
+            });
+      }
+    } finally {
+      serverChannel = null;
+      Files.deleteIfExists(boundFile);
+      Files.deleteIfExists(bindDirectory);
+      Files.deleteIfExists(socketFile);
+    }
+  }
+
+  /**
+   * Serves the requests read from {@code in}, and writes each response to {@code out} - until the
+   * end of {@code in}, or a {@code shutdown} request - which is handled on the calling thread,
+   * hence {@code in} is not read any further. Other requests are handled concurrently, hence
+   * responses <strong>MAY</strong> be written in another order than their requests.
+   *
+   * @param in of requests.
+   * @param out of responses.
+   * @throws IllegalArgumentException if {@code in} or {@code out} is {@code null}.
+   * @throws IOException if {@code in} could not be read.
+   * @since 0.11.0
+   */
+  @Contract("null, _ -> fail; _, null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public void serve(final InputStream in, final OutputStream out) throws IOException {
+    if (in == null) {
+      throw ExceptionFactory.nullException("in");
+    }
+    if (out == null) {
+      throw ExceptionFactory.nullException("out");
+    }
+    final var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    final var pendingRequests = new Phaser(1);
+    try {
+      String line;
+      while (!shutdown && (line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        final var response = new StringBuilder("{");
+        final Request request;
+        try {
+          request = parseRequest(line, response);
+        } catch (final RuntimeException e) {
+          respond(writer, error(response, e));
+          continue;
+        }
+        if (request.command().equals("shutdown")) {
+          respond(writer, handle(request, response));
+          break;
+        }
+        pendingRequests.register();
+        workers.execute(
+            () -> {
+              try {
+                respond(writer, handle(request, response));
+              } finally {
+                pendingRequests.arriveAndDeregister();
+              }
+            });
+      }
+    } finally {
+      pendingRequests.arriveAndAwaitAdvance();
+    }
+  }
+
+  /**
+   * Handles a single request, on the calling thread.
+   *
+   * @param request as a line of JSON.
+   * @return the response, as a line of JSON.
+   * @throws IllegalArgumentException if {@code request} is {@code null}.
+   * @since 0.11.0
+   */
+  @Contract("null -> fail")
+  @SuppressWarnings({"ConstantValue", "Contract"})
+  public String handle(final String request) {
+    if (request == null) {
+      throw ExceptionFactory.nullException("request");
+    }
+    final var response = new StringBuilder("{");
+    final Request parsedRequest;
+    try {
+      parsedRequest = parseRequest(request, response);
+    } catch (final RuntimeException e) {
+      return error(response, e);
+    }
+    return handle(parsedRequest, response);
+  }
+
+  /** A parsed request. */
+  private record Request(
+      String command, @Nullable String directory, List<Path> schemas, boolean prune) {}
+
+  /**
+   * Parses the {@code request}, and appends its {@code id} - if any - to the {@code response}.
+   *
+   * @throws RuntimeException if the {@code request} is malformed.
+   */
+  private static Request parseRequest(final String request, final StringBuilder response) {
+    final var json = new JsonReader(new StringReader(request));
+    String command = "generate";
+    String directory = null;
+    final List<Path> schemas = new ArrayList<>();
+    boolean prune = true;
+    json.beginObject();
+    while (json.hasNext()) {
+      final String name = json.nextName();
+      switch (name) {
+        case "id" -> appendMember(response, "id", json.nextString());
+        case "command" -> command = json.nextString();
+        case "directory" -> directory = json.nextString();
+        case "schemas" -> {
+          json.beginArray();
+          while (json.hasNext()) {
+            schemas.add(Path.of(json.nextString()));
+          }
+          json.endArray();
+        }
+        case "prune" -> prune = json.nextBoolean();
+        default -> throw json.valueError("Request member `%s` is unknown".formatted(name));
+      }
+    }
+    json.endObject();
+    json.endDocument();
+    return new Request(command, directory, schemas, prune);
+  }
+
+  /** Handles the parsed {@code request}, and completes its {@code response}. */
+  private String handle(final Request request, final StringBuilder response) {
+    try {
+      switch (request.command()) {
+        case "generate" -> {
+          final String directory = request.directory();
+          if (directory == null) {
+            throw ExceptionFactory.nullException("directory");
+          }
+          final long start = System.nanoTime();
+          final int prunedFiles = generate(directory, request.schemas(), request.prune());
+          appendMember(response, "status", "OK");
+          response
+              .append(",\"schemas\":")
+              .append(request.schemas().size())
+              .append(",\"pruned\":")
+              .append(prunedFiles)
+              .append(",\"millis\":")
+              .append((System.nanoTime() - start) / 1_000_000);
+        }
+        case "shutdown" -> {
+          shutdown();
+          appendMember(response, "status", "OK");
+        }
+        default -> throw ExceptionFactory.notSupportedException("command", request.command());
+      }
+    } catch (final RuntimeException e) {
+      return error(response, e);
+    }
+    return response.append('}').toString();
+  }
+
+  /** Completes the {@code response} of a failed request. */
+  private static String error(final StringBuilder response, final RuntimeException e) {
+    final Throwable cause = e.getCause() != null ? e.getCause() : e;
+    appendMember(response, "status", "ERROR");
+    appendMember(response, "message", String.valueOf(cause.getMessage()));
+    return response.append('}').toString();
+  }
+
+  /**
+   * Stops serving requests, disconnects every connection, and waits for pending requests to
+   * complete.
+   *
+   * @since 0.11.0
+   */
+  @Override
+  public void close() {
+    shutdown();
+    connections.shutdownNow();
+    workers.shutdown();
+    try {
+      while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+        // Pending requests are never interrupted, as they may be writing files.
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private int generate(final String directory, final List<Path> schemas, final boolean prune) {
+    final Path root = Path.of(directory).toAbsolutePath().normalize();
+    final DirectoryLock directoryLock =
+        directoryLocks.compute(
+            root,
+            (key, lock) -> {
+              final DirectoryLock heldLock = lock != null ? lock : new DirectoryLock();
+              heldLock.holders++;
+              return heldLock;
+            });
+    try {
+      synchronized (directoryLock) {
+        try (final GenerationRun run = ClassForge.startRun(directory)) {
+          for (final Path schema : schemas) {
+            ClassForge.loadSchema(schema, builder -> builder.setGenerationRun(run));
+          }
+          return prune ? run.pruneStaleOutputs().size() : 0;
+        }
+      }
+    } finally {
+      // Removed once idle, hence the locks of past directories are not retained.
+      directoryLocks.computeIfPresent(root, (key, lock) -> --lock.holders == 0 ? null : lock);
+    }
+  }
+
+  /** The lock of a {@code directory}, by the number of requests holding or awaiting it. */
+  private static final class DirectoryLock {
+    private int holders;
+  }
+
+  private void shutdown() {
+    shutdown = true;
+    final ServerSocketChannel server = serverChannel;
+    if (server != null) {
+      try {
+        server.close();
+      } catch (final IOException e) {
+        // Already closed.
+      }
+    }
+  }
+
+  /**
+   * Creates an {@link OutputStream} which writes to the {@code connection} directly. Unlike {@link
+   * Channels#newOutputStream(java.nio.channels.WritableByteChannel)}, it does not wait for the
+   * blocking lock of the {@code connection} - which is held while reading the next request.
+   */
+  private static OutputStream newOutputStream(final SocketChannel connection) {
+    return new OutputStream() {
+      @Override
+      public void write(final int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+        while (buffer.hasRemaining()) {
+          connection.write(buffer);
+        }
+      }
+    };
+  }
+
+  private static void respond(final Writer writer, final String response) {
+    synchronized (writer) {
+      try {
+        writer.write(response);
+        writer.write('\n');
+        writer.flush();
+      } catch (final IOException e) {
+        // The client disconnected - its response is discarded.
+      }
+    }
+  }
+
+  private static void appendMember(
+      final StringBuilder response, final String name, final String value) {
+    if (response.length() > 1) {
+      response.append(',');
+    }
+    response.append('"').append(name).append("\":\"");
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"' -> response.append("\\\"");
+        case '\\' -> response.append("\\\\");
+        case '\n' -> response.append("\\n");
+        case '\r' -> response.append("\\r");
+        case '\t' -> response.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            response.append("\\u%04x".formatted((int) c));
+          } else {
+            response.append(c);
+          }
+        }
+      }
+    }
+    response.append('"');
+  }
+
+  private static String argumentValue(final String[] args, final int index) {
+    if (index >= args.length) {
+      throw new IllegalArgumentException(
+          "Argument `%s` requires a value".formatted(args[index - 1]));
+    }
+    return args[index];
+  }
+}
@@ -27,6 +27,7 @@ import org.jspecify.annotations.Nullable;
  * @param packageName of the enum class.
  * @param className of the enum class.
  * @param enumConstants of the enum class.
+ * @param members of the enum class, as <em>source code</em>, declared after the enum constants.
  * @param <ValueType> of the enum class.
  * @since 0.11.0
  */
@@ -34,7 +35,8 @@ import org.jspecify.annotations.Nullable;
 public record EnumModel<ValueType>(
     @Nullable String packageName,
     String className,
-    List<EnumConstantModel<ValueType>> enumConstants)
+    List<EnumConstantModel<ValueType>> enumConstants,
+    List<String> members)
     implements Model {
 
   /**
@@ -43,6 +45,7 @@ public record EnumModel<ValueType>(
    * @param packageName of the enum class.
    * @param className of the enum class.
    * @param enumConstants of the enum class.
+   * @param members of the enum class.
    * @since 0.11.0
    */
   public EnumModel {
@@ -55,8 +58,11 @@ public record EnumModel<ValueType>(
    * Represents an {@code enum}-<i>constant</i>.
    *
    * @param name of the constant
+   * @param previousNames of the constant, in <em>previously committed</em> versions.
+   * @param wireId of the constant, which is stable across versions.
    * @param <ValueType> of the {@code enum}.
    * @since 0.11.0
    */
-  public record EnumConstantModel<ValueType>(String name) {}
+  public record EnumConstantModel<ValueType>(
+      String name, List<String> previousNames, int wireId) {}
 }
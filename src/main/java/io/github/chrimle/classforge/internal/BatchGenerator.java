@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import java.util.List;
+import org.apiguardian.api.API;
+
+/**
+ * Generates the source code of a <em>columnar batch</em> container, which stores values in a
+ * primitive array rather than as object references.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class BatchGenerator {
+
+  private BatchGenerator() {}
+
+  /**
+   * Generates the nested batch class {@code <className>Batch} of an {@code enum}. Each enum
+   * constant is stored as its {@code ordinal}, in the smallest primitive type which fits every
+   * enum constant.
+   *
+   * @param className of the enum class.
+   * @param enumConstantCount of the enum class.
+   * @return the member declarations.
+   * @since 0.11.0
+   */
+  public static List<String> generateEnumMembers(
+      final String className, final int enumConstantCount) {
+    final String arrayType;
+    final String mask;
+    if (enumConstantCount <= 0x100) {
+      arrayType = "byte";
+      mask = " & 0xFF";
+    } else if (enumConstantCount <= 0x10000) {
+      arrayType = "short";
+      mask = " & 0xFFFF";
+    } else {
+      arrayType = "int";
+      mask = "";
+    }
+    return List.of(
+        """
+          /**
+           * A columnar batch of non-null {@link %1$s} values, stored as {@code %2$s} ordinals.
+           */
+          public static final class %1$sBatch implements java.lang.Iterable<%1$s> {
+
+            private static final %1$s[] VALUES = values();
+
+            private %2$s[] ordinals;
+            private int size;
+
+            public %1$sBatch() {
+              this(16);
+            }
+
+            public %1$sBatch(final int initialCapacity) {
+              ordinals = new %2$s[initialCapacity];
+            }
+
+            public static %1$sBatch of(final java.util.Collection<%1$s> values) {
+              final var batch = new %1$sBatch(values.size());
+              for (final %1$s value : values) {
+                batch.append(value);
+              }
+              return batch;
+            }
+
+            public void append(final %1$s value) {
+              final int ordinal = value.ordinal();
+              if (size == ordinals.length) {
+                ordinals = java.util.Arrays.copyOf(ordinals, Math.max(16, size * 2));
+              }
+              ordinals[size++] = (%2$s) ordinal;
+            }
+
+            public %1$s get(final int index) {
+              java.util.Objects.checkIndex(index, size);
+              return VALUES[ordinals[index]%3$s];
+            }
+
+            public void set(final int index, final %1$s value) {
+              java.util.Objects.checkIndex(index, size);
+              ordinals[index] = (%2$s) value.ordinal();
+            }
+
+            public int size() {
+              return size;
+            }
+
+            public void clear() {
+              size = 0;
+            }
+
+            public %1$s[] toArray() {
+              final var array = new %1$s[size];
+              for (int i = 0; i < size; i++) {
+                array[i] = VALUES[ordinals[i]%3$s];
+              }
+              return array;
+            }
+
+            @Override
+            public java.util.Iterator<%1$s> iterator() {
+              return new java.util.Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                  return index < size;
+                }
+
+                @Override
+                public %1$s next() {
+                  if (index >= size) {
+                    throw new java.util.NoSuchElementException();
+                  }
+                  return VALUES[ordinals[index++]%3$s];
+                }
+              };
+            }
+          }\
+        """
+            .formatted(className, arrayType, mask));
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import io.github.chrimle.semver.SemVer;
+import java.util.List;
+import java.util.StringJoiner;
+import org.apiguardian.api.API;
+
+/**
+ * Generates the source code of a compact binary encoder and decoder over a {@link
+ * java.nio.ByteBuffer}. Each payload starts with a <em>version header</em>, consisting of the
+ * {@code major}, {@code minor} and {@code patch} version as <em>varints</em>. Payloads of a newer
+ * {@code major} version than the decoder are rejected, as they <strong>MAY</strong> contain values
+ * the decoder cannot represent.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class BinaryCodecGenerator {
+
+  private static final String VARINT_MEMBERS =
+      """
+        private static void writeVarint(final java.nio.ByteBuffer buffer, int value) {
+          while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+          }
+          buffer.put((byte) value);
+        }
+
+        private static int readVarint(final java.nio.ByteBuffer buffer) {
+          int value = 0;
+          for (int shift = 0; shift < 32; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+              return value;
+            }
+          }
+          throw new IllegalArgumentException("Malformed varint");
+        }\
+      """;
+
+  private BinaryCodecGenerator() {}
+
+  /**
+   * Generates the <em>wire ID</em> members of an {@code enum}, shared by {@link
+   * #generateEnumMembers(String, SemVer)} and {@link FlyweightGenerator#generateEnumMembers(String,
+   * int)}. Each enum constant is identified by its {@link EnumConstantModel#wireId()}, which is
+   * never reused by any other enum constant - hence <em>previously committed</em> versions share
+   * the same lookup.
+   *
+   * @param className of the enum class.
+   * @param enumConstants of the enum class.
+   * @return the member declarations.
+   * @since 0.11.0
+   */
+  public static List<String> generateEnumWireIdMembers(
+      final String className, final List<? extends EnumConstantModel<?>> enumConstants) {
+    final var wireIds = new StringJoiner(", ", "{", "}");
+    for (final EnumConstantModel<?> enumConstant : enumConstants) {
+      wireIds.add(String.valueOf(enumConstant.wireId()));
+    }
+    return List.of(
+        "  private static final int[] WIRE_IDS = %s;".formatted(wireIds),
+        "  private static final %s[] WIRE_LOOKUP = new %s[%d];"
+            .formatted(className, className, maxWireId(enumConstants) + 1),
+        """
+          static {
+            for (final %1$s enumConstant : values()) {
+              WIRE_LOOKUP[WIRE_IDS[enumConstant.ordinal()]] = enumConstant;
+            }
+          }\
+        """
+            .formatted(className),
+        """
+          private static %1$s fromWireId(final int wireId) {
+            return wireId >= 0 && wireId < WIRE_LOOKUP.length ? WIRE_LOOKUP[wireId] : null;
+          }\
+        """
+            .formatted(className));
+  }
+
+  /**
+   * Generates the binary codec members of an {@code enum}. Each enum constant is encoded by its
+   * <em>wire ID</em>, hence requires the members of {@link #generateEnumWireIdMembers(String,
+   * List)}.
+   *
+   * @param className of the enum class.
+   * @param semVer of the enum class.
+   * @return the member declarations.
+   * @since 0.11.0
+   */
+  public static List<String> generateEnumMembers(final String className, final SemVer semVer) {
+    final int major = SemVerParser.versionParts(semVer)[0];
+    return List.of(
+        generateVersionHeader(semVer),
+        """
+          public void writeBinary(final java.nio.ByteBuffer buffer) {
+            buffer.put(BINARY_VERSION_HEADER);
+            writeVarint(buffer, WIRE_IDS[ordinal()]);
+          }\
+        """,
+        """
+          public static %1$s readBinary(final java.nio.ByteBuffer buffer) {
+            final int major = readVarint(buffer);
+            final int minor = readVarint(buffer);
+            final int patch = readVarint(buffer);
+            if (major > %2$d) {
+              throw new IllegalArgumentException(
+                  "Incompatible version %%d.%%d.%%d, expected major version %2$d or older"
+                      .formatted(major, minor, patch));
+            }
+            final int wireId = readVarint(buffer);
+            final %1$s enumConstant = fromWireId(wireId);
+            if (enumConstant == null) {
+              throw new IllegalArgumentException(
+                  "Unexpected wire id %%d in version %%d.%%d.%%d"
+                      .formatted(wireId, major, minor, patch));
+            }
+            return enumConstant;
+          }\
+        """
+            .formatted(className, major),
+        VARINT_MEMBERS);
+  }
+
+  /**
+   * Returns the greatest {@link EnumConstantModel#wireId()} of the {@code enumConstants}.
+   *
+   * @param enumConstants of the enum class.
+   * @return the greatest <em>wire ID</em>, or {@code -1} if there are no enum constants.
+   * @since 0.11.0
+   */
+  public static int maxWireId(final List<? extends EnumConstantModel<?>> enumConstants) {
+    int maxWireId = -1;
+    for (final EnumConstantModel<?> enumConstant : enumConstants) {
+      maxWireId = Math.max(maxWireId, enumConstant.wireId());
+    }
+    return maxWireId;
+  }
+
+  /**
+   * Generates the <em>precomputed</em> version header, as <em>varints</em>.
+   *
+   * @param semVer of the class.
+   * @return the member declaration.
+   */
+  private static String generateVersionHeader(final SemVer semVer) {
+    final var headerBytes = new StringJoiner(", ", "{", "}");
+    for (final int versionPart : SemVerParser.versionParts(semVer)) {
+      int value = versionPart;
+      while ((value & ~0x7F) != 0) {
+        headerBytes.add("(byte) 0x%02X".formatted((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      headerBytes.add("(byte) 0x%02X".formatted(value));
+    }
+    return "  private static final byte[] BINARY_VERSION_HEADER = %s;".formatted(headerBytes);
+  }
+}
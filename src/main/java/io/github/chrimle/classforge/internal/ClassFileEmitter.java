@@ -0,0 +1,508 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import io.github.chrimle.classforge.Model;
+import io.github.chrimle.classforge.classes.ClassModel;
+import io.github.chrimle.classforge.enums.EnumModel;
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Emits the {@code .class} file of a {@link Model} directly, without rendering source code or
+ * invoking {@code javac}. Classes, and enum classes without {@code members} - i.e. without any
+ * enabled features - are supported, for which the emitted bytecode is equivalent to the {@code
+ * javac} output of the rendered source code, targeting Java 17.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class ClassFileEmitter {
+
+  /** The {@code major_version} of Java 17 class files. */
+  private static final int JAVA_17_MAJOR_VERSION = 61;
+
+  private static final int ACC_PUBLIC = 0x0001;
+  private static final int ACC_PRIVATE = 0x0002;
+  private static final int ACC_STATIC = 0x0008;
+  private static final int ACC_FINAL = 0x0010;
+  private static final int ACC_SUPER = 0x0020;
+  private static final int ACC_SYNTHETIC = 0x1000;
+  private static final int ACC_ENUM = 0x4000;
+
+  private static final int ICONST_0 = 0x03;
+  private static final int BIPUSH = 0x10;
+  private static final int SIPUSH = 0x11;
+  private static final int LDC = 0x12;
+  private static final int LDC_W = 0x13;
+  private static final int ILOAD_2 = 0x1c;
+  private static final int ALOAD_0 = 0x2a;
+  private static final int ALOAD_1 = 0x2b;
+  private static final int AASTORE = 0x53;
+  private static final int DUP = 0x59;
+  private static final int ARETURN = 0xb0;
+  private static final int RETURN = 0xb1;
+  private static final int GETSTATIC = 0xb2;
+  private static final int PUTSTATIC = 0xb3;
+  private static final int INVOKEVIRTUAL = 0xb6;
+  private static final int INVOKESPECIAL = 0xb7;
+  private static final int INVOKESTATIC = 0xb8;
+  private static final int NEW = 0xbb;
+  private static final int ANEWARRAY = 0xbd;
+  private static final int CHECKCAST = 0xc0;
+
+  /** The maximum length of the {@code code} array of a method. */
+  private static final int MAX_CODE_LENGTH = 0xFFFF;
+
+  private ClassFileEmitter() {}
+
+  /**
+   * Returns whether the {@code model} is supported by {@link #emit(Model)}.
+   *
+   * @param model to emit.
+   * @return {@code true} if supported, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public static boolean isSupported(final Model model) {
+    if (model instanceof ClassModel) {
+      return true;
+    }
+    if (model instanceof EnumModel<?> enumModel) {
+      return enumModel.members().isEmpty();
+    }
+    return false;
+  }
+
+  /**
+   * Emits the {@code .class} file of the {@code model}.
+   *
+   * @param model to emit.
+   * @return the {@code .class} file.
+   * @throws IllegalArgumentException if the {@code model} is not {@link #isSupported(Model)
+   *     supported}.
+   * @throws IllegalStateException if a method exceeds the maximum code length.
+   * @since 0.11.0
+   */
+  public static byte[] emit(final Model model) {
+    if (!isSupported(model)) {
+      throw new IllegalArgumentException(
+          "Models with members cannot be emitted as bytecode!");
+    }
+    if (model instanceof EnumModel<?> enumModel) {
+      return emitEnum(enumModel);
+    }
+    return emitClass((ClassModel) model);
+  }
+
+  private static byte[] emitClass(final ClassModel classModel) {
+    final var classFile =
+        new ClassFile(
+            internalName(classModel.packageName(), classModel.className()),
+            "java/lang/Object",
+            ACC_PUBLIC | ACC_SUPER);
+
+    final var constructor = classFile.method(ACC_PUBLIC, "<init>", "()V", 1, 1);
+    constructor.op(ALOAD_0);
+    constructor.opIndex(
+        INVOKESPECIAL, classFile.constantPool.methodRef("java/lang/Object", "<init>", "()V"));
+    constructor.op(RETURN);
+
+    return classFile.toByteArray(classModel.className(), null);
+  }
+
+  private static byte[] emitEnum(final EnumModel<?> enumModel) {
+    final String thisClass = internalName(enumModel.packageName(), enumModel.className());
+    final String descriptor = "L" + thisClass + ";";
+    final String arrayDescriptor = "[" + descriptor;
+    final List<String> names = new ArrayList<>(enumModel.enumConstants().size());
+    for (final EnumConstantModel<?> enumConstant : enumModel.enumConstants()) {
+      names.add(enumConstant.name());
+    }
+    final var classFile =
+        new ClassFile(thisClass, "java/lang/Enum", ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_ENUM);
+    final ConstantPool constantPool = classFile.constantPool;
+
+    for (final String name : names) {
+      classFile.field(ACC_PUBLIC | ACC_STATIC | ACC_FINAL | ACC_ENUM, name, descriptor);
+    }
+    classFile.field(
+        ACC_PRIVATE | ACC_STATIC | ACC_FINAL | ACC_SYNTHETIC, "$VALUES", arrayDescriptor);
+    final int valuesField = constantPool.fieldRef(thisClass, "$VALUES", arrayDescriptor);
+
+    final var values =
+        classFile.method(ACC_PUBLIC | ACC_STATIC, "values", "()" + arrayDescriptor, 1, 0);
+    values.opIndex(GETSTATIC, valuesField);
+    values.opIndex(
+        INVOKEVIRTUAL, constantPool.methodRef(arrayDescriptor, "clone", "()Ljava/lang/Object;"));
+    values.opIndex(CHECKCAST, constantPool.classRef(arrayDescriptor));
+    values.op(ARETURN);
+
+    final var valueOf =
+        classFile.method(
+            ACC_PUBLIC | ACC_STATIC, "valueOf", "(Ljava/lang/String;)" + descriptor, 2, 1);
+    valueOf.ldc(constantPool.classRef(thisClass));
+    valueOf.op(ALOAD_0);
+    valueOf.opIndex(
+        INVOKESTATIC,
+        constantPool.methodRef(
+            "java/lang/Enum", "valueOf", "(Ljava/lang/Class;Ljava/lang/String;)Ljava/lang/Enum;"));
+    valueOf.opIndex(CHECKCAST, constantPool.classRef(thisClass));
+    valueOf.op(ARETURN);
+
+    final var constructor =
+        classFile.method(ACC_PRIVATE, "<init>", "(Ljava/lang/String;I)V", 3, 3);
+    constructor.signature = "()V";
+    constructor.op(ALOAD_0);
+    constructor.op(ALOAD_1);
+    constructor.op(ILOAD_2);
+    constructor.opIndex(
+        INVOKESPECIAL,
+        constantPool.methodRef("java/lang/Enum", "<init>", "(Ljava/lang/String;I)V"));
+    constructor.op(RETURN);
+    final int constructorRef =
+        constantPool.methodRef(thisClass, "<init>", "(Ljava/lang/String;I)V");
+
+    final var valuesArray =
+        classFile.method(
+            ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC,
+            "$values",
+            "()" + arrayDescriptor,
+            names.isEmpty() ? 1 : 4,
+            0);
+    valuesArray.pushInt(constantPool, names.size());
+    valuesArray.opIndex(ANEWARRAY, constantPool.classRef(thisClass));
+    for (int i = 0; i < names.size(); i++) {
+      valuesArray.op(DUP);
+      valuesArray.pushInt(constantPool, i);
+      valuesArray.opIndex(GETSTATIC, constantPool.fieldRef(thisClass, names.get(i), descriptor));
+      valuesArray.op(AASTORE);
+    }
+    valuesArray.op(ARETURN);
+
+    final var staticInitializer =
+        classFile.method(ACC_STATIC, "<clinit>", "()V", names.isEmpty() ? 1 : 4, 0);
+    for (int i = 0; i < names.size(); i++) {
+      staticInitializer.opIndex(NEW, constantPool.classRef(thisClass));
+      staticInitializer.op(DUP);
+      staticInitializer.ldc(constantPool.string(names.get(i)));
+      staticInitializer.pushInt(constantPool, i);
+      staticInitializer.opIndex(INVOKESPECIAL, constructorRef);
+      staticInitializer.opIndex(
+          PUTSTATIC, constantPool.fieldRef(thisClass, names.get(i), descriptor));
+    }
+    staticInitializer.opIndex(
+        INVOKESTATIC, constantPool.methodRef(thisClass, "$values", "()" + arrayDescriptor));
+    staticInitializer.opIndex(PUTSTATIC, valuesField);
+    staticInitializer.op(RETURN);
+
+    return classFile.toByteArray(enumModel.className(), "Ljava/lang/Enum<" + descriptor + ">;");
+  }
+
+  private static String internalName(final @Nullable String packageName, final String className) {
+    return packageName == null ? className : packageName.replace('.', '/') + "/" + className;
+  }
+
+  /** A class file under construction. */
+  private static final class ClassFile {
+
+    private final ConstantPool constantPool = new ConstantPool();
+    private final List<Member> fields = new ArrayList<>();
+    private final List<Method> methods = new ArrayList<>();
+    private final int accessFlags;
+    private final int thisClass;
+    private final int superClass;
+
+    ClassFile(final String thisClass, final String superClass, final int accessFlags) {
+      this.accessFlags = accessFlags;
+      this.thisClass = constantPool.classRef(thisClass);
+      this.superClass = constantPool.classRef(superClass);
+    }
+
+    void field(final int accessFlags, final String name, final String descriptor) {
+      fields.add(
+          new Member(accessFlags, constantPool.utf8(name), constantPool.utf8(descriptor)));
+    }
+
+    Method method(
+        final int accessFlags,
+        final String name,
+        final String descriptor,
+        final int maxStack,
+        final int maxLocals) {
+      final var method = new Method(accessFlags, name, descriptor, maxStack, maxLocals);
+      methods.add(method);
+      return method;
+    }
+
+    byte[] toByteArray(final String className, final @Nullable String signature) {
+      try {
+        final var body = new ByteArrayOutputStream();
+        final var out = new DataOutputStream(body);
+        out.writeShort(accessFlags);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0); // interfaces_count
+        out.writeShort(fields.size());
+        for (final Member field : fields) {
+          out.writeShort(field.accessFlags());
+          out.writeShort(field.nameIndex());
+          out.writeShort(field.descriptorIndex());
+          out.writeShort(0); // attributes_count
+        }
+        out.writeShort(methods.size());
+        for (final Method method : methods) {
+          method.writeTo(out, constantPool);
+        }
+        out.writeShort(signature == null ? 1 : 2);
+        if (signature != null) {
+          writeSignature(out, constantPool, signature);
+        }
+        out.writeShort(constantPool.utf8("SourceFile"));
+        out.writeInt(2);
+        out.writeShort(constantPool.utf8(className + ".java"));
+
+        final var classFile = new ByteArrayOutputStream(body.size() + 512);
+        final var header = new DataOutputStream(classFile);
+        header.writeInt(0xCAFEBABE);
+        header.writeShort(0); // minor_version
+        header.writeShort(JAVA_17_MAJOR_VERSION);
+        constantPool.writeTo(header);
+        body.writeTo(classFile);
+        return classFile.toByteArray();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    private static void writeSignature(
+        final DataOutputStream out, final ConstantPool constantPool, final String signature)
+        throws IOException {
+      out.writeShort(constantPool.utf8("Signature"));
+      out.writeInt(2);
+      out.writeShort(constantPool.utf8(signature));
+    }
+  }
+
+  /**
+   * A field, or the header of a method.
+   *
+   * @param accessFlags of the member.
+   * @param nameIndex of the member, in the constant pool.
+   * @param descriptorIndex of the member, in the constant pool.
+   */
+  private record Member(int accessFlags, int nameIndex, int descriptorIndex) {}
+
+  /** A method under construction. */
+  private static final class Method {
+
+    private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+    private final int accessFlags;
+    private final String name;
+    private final String descriptor;
+    private final int maxStack;
+    private final int maxLocals;
+    private @Nullable String signature;
+
+    Method(
+        final int accessFlags,
+        final String name,
+        final String descriptor,
+        final int maxStack,
+        final int maxLocals) {
+      this.accessFlags = accessFlags;
+      this.name = name;
+      this.descriptor = descriptor;
+      this.maxStack = maxStack;
+      this.maxLocals = maxLocals;
+    }
+
+    void op(final int opcode) {
+      code.write(opcode);
+    }
+
+    void opIndex(final int opcode, final int index) {
+      code.write(opcode);
+      code.write(index >>> 8);
+      code.write(index);
+    }
+
+    void ldc(final int index) {
+      if (index <= 0xFF) {
+        code.write(LDC);
+        code.write(index);
+      } else {
+        opIndex(LDC_W, index);
+      }
+    }
+
+    void pushInt(final ConstantPool constantPool, final int value) {
+      if (value <= 5) {
+        code.write(ICONST_0 + value);
+      } else if (value <= Byte.MAX_VALUE) {
+        code.write(BIPUSH);
+        code.write(value);
+      } else if (value <= Short.MAX_VALUE) {
+        opIndex(SIPUSH, value);
+      } else {
+        ldc(constantPool.integer(value));
+      }
+    }
+
+    void writeTo(final DataOutputStream out, final ConstantPool constantPool) throws IOException {
+      if (code.size() > MAX_CODE_LENGTH) {
+        throw new IllegalStateException(
+            "Method `%s` exceeds the maximum code length!".formatted(name));
+      }
+      out.writeShort(accessFlags);
+      out.writeShort(constantPool.utf8(name));
+      out.writeShort(constantPool.utf8(descriptor));
+      out.writeShort(signature == null ? 1 : 2);
+      out.writeShort(constantPool.utf8("Code"));
+      out.writeInt(12 + code.size());
+      out.writeShort(maxStack);
+      out.writeShort(maxLocals);
+      out.writeInt(code.size());
+      code.writeTo(out);
+      out.writeShort(0); // exception_table_length
+      out.writeShort(0); // attributes_count
+      if (signature != null) {
+        ClassFile.writeSignature(out, constantPool, signature);
+      }
+    }
+  }
+
+  /** The constant pool of a class file, in which each constant is added only once. */
+  private static final class ConstantPool {
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final Map<String, Integer> indices = new HashMap<>();
+    private int count = 1;
+
+    int utf8(final String value) {
+      return add(
+          CONSTANT_UTF8 + ":" + value,
+          () -> {
+            out.writeByte(CONSTANT_UTF8);
+            out.writeUTF(value);
+          });
+    }
+
+    int integer(final int value) {
+      return add(
+          CONSTANT_INTEGER + ":" + value,
+          () -> {
+            out.writeByte(CONSTANT_INTEGER);
+            out.writeInt(value);
+          });
+    }
+
+    int classRef(final String internalName) {
+      final int nameIndex = utf8(internalName);
+      return add(CONSTANT_CLASS + ":" + internalName, () -> writeTag(CONSTANT_CLASS, nameIndex));
+    }
+
+    int string(final String value) {
+      final int valueIndex = utf8(value);
+      return add(CONSTANT_STRING + ":" + value, () -> writeTag(CONSTANT_STRING, valueIndex));
+    }
+
+    int fieldRef(final String owner, final String name, final String descriptor) {
+      return memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+    }
+
+    int methodRef(final String owner, final String name, final String descriptor) {
+      return memberRef(CONSTANT_METHODREF, owner, name, descriptor);
+    }
+
+    private int memberRef(
+        final int tag, final String owner, final String name, final String descriptor) {
+      final int classIndex = classRef(owner);
+      final int nameAndTypeIndex = nameAndType(name, descriptor);
+      return add(
+          tag + ":" + owner + "." + name + ":" + descriptor,
+          () -> {
+            writeTag(tag, classIndex);
+            out.writeShort(nameAndTypeIndex);
+          });
+    }
+
+    private int nameAndType(final String name, final String descriptor) {
+      final int nameIndex = utf8(name);
+      final int descriptorIndex = utf8(descriptor);
+      return add(
+          CONSTANT_NAME_AND_TYPE + ":" + name + ":" + descriptor,
+          () -> {
+            writeTag(CONSTANT_NAME_AND_TYPE, nameIndex);
+            out.writeShort(descriptorIndex);
+          });
+    }
+
+    private void writeTag(final int tag, final int index) throws IOException {
+      out.writeByte(tag);
+      out.writeShort(index);
+    }
+
+    private int add(final String key, final ConstantWriter writer) {
+      final Integer existing = indices.get(key);
+      if (existing != null) {
+        return existing;
+      }
+      if (count > 0xFFFF - 1) {
+        throw new IllegalStateException("Constant pool exceeds its maximum size!");
+      }
+      try {
+        writer.write();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      indices.put(key, count);
+      return count++;
+    }
+
+    void writeTo(final DataOutputStream classFile) throws IOException {
+      classFile.writeShort(count);
+      bytes.writeTo(classFile);
+    }
+  }
+
+  /** Writes a single constant. */
+  @FunctionalInterface
+  private interface ConstantWriter {
+
+    void write() throws IOException;
+  }
+}
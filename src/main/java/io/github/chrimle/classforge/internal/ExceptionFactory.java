@@ -128,4 +128,38 @@ public final class ExceptionFactory {
         .setMessage("`%s` MUST NOT be a Reserved Java Keyword".formatted(key))
         .build();
   }
+
+  /**
+   * Creates a new {@link IllegalArgumentException}-instance with a {@code message} representing a
+   * <em>Not Supported</em>-exception.
+   *
+   * @param type of the entity.
+   * @param name of the entity.
+   * @return the exception.
+   * @since 0.11.0
+   */
+  @Contract("_, _ -> new")
+  public static IllegalArgumentException notSupportedException(
+      final @Nullable String type, final @Nullable String name) {
+    return ExceptionBuilder.of(IllegalArgumentException.class)
+        .setMessage("`%s` named `%s` is not supported".formatted(type, name))
+        .build();
+  }
+
+  /**
+   * Creates a new {@link IllegalArgumentException}-instance with a {@code message} representing an
+   * <em>Out Of Range</em>-exception.
+   *
+   * @param key which had an <em>out of range</em>-value.
+   * @param range which the value must be within.
+   * @return the exception.
+   * @since 0.11.0
+   */
+  @Contract("_, _ -> new")
+  public static IllegalArgumentException outOfRangeException(
+      final @Nullable String key, final @Nullable String range) {
+    return ExceptionBuilder.of(IllegalArgumentException.class)
+        .setMessage("`%s` MUST be within %s".formatted(key, range))
+        .build();
+  }
 }
@@ -15,14 +15,28 @@
  */
 package io.github.chrimle.classforge.internal;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import org.apiguardian.api.API;
 
 /**
  * Writes content to files - creating directories and files if needed.
  *
+ * <p>Files with unchanged content are left alone. {@link #pruneStaleFiles(Path, Set)} deletes the
+ * files of the previous run which were not produced by the current run, as recorded by a
+ * <em>manifest</em> in the output root.
+ *
  * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
  *
  * @since 0.1.0
@@ -31,37 +45,181 @@ import org.apiguardian.api.API;
 @API(status = API.Status.INTERNAL, since = "0.6.0", consumers = "io.github.chrimle.classforge")
 public class FileWriter {
 
+  /**
+   * The file name of the <em>manifest</em> of each output root.
+   *
+   * @since 0.11.0
+   */
+  public static final String MANIFEST_FILE_NAME = ".class-forge-manifest";
+
   /**
    * Writes the {@code content} to a file at {@code directory} and the {@code package}-name from the
-   * {@code fullyQualifiedClassName}.
+   * {@code fullyQualifiedClassName} - unless the file already has the same {@code content}.
    *
    * @param directory of the file.
    * @param fullyQualifiedClassName of the class.
    * @param content of the file.
+   * @return {@code true} if written, or {@code false} if the content was unchanged.
    * @since 0.1.0
    */
-  public static void writeToFile(
+  public static boolean writeToFile(
       final String directory, final String fullyQualifiedClassName, final String content) {
-    writeToFile(
-        Path.of("%s/%s.java".formatted(directory, fullyQualifiedClassName.replace(".", "/"))),
-        content);
+    return writeToFile(
+        directory, fullyQualifiedClassName, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes the UTF-8 encoded {@code content} to a file at {@code directory} and the {@code
+   * package}-name from the {@code fullyQualifiedClassName} - unless the file already has the same
+   * {@code content}.
+   *
+   * @param directory of the file.
+   * @param fullyQualifiedClassName of the class.
+   * @param content of the file, encoded as UTF-8.
+   * @return {@code true} if written, or {@code false} if the content was unchanged.
+   * @since 0.11.0
+   */
+  public static boolean writeToFile(
+      final String directory, final String fullyQualifiedClassName, final byte[] content) {
+    return writeToFile(Path.of(directory + "/" + relativePath(fullyQualifiedClassName)), content);
   }
 
   /**
-   * Writes the {@code content} to a file at {@code filePath}. Creates the directory and file if
-   * needed.
+   * Writes the {@code content} to a file at {@code filePath} - unless the file already has the same
+   * {@code content}. Creates the directory and file if needed.
    *
    * @param filePath of the file.
    * @param content of the file.
+   * @return {@code true} if written, or {@code false} if the content was unchanged.
    * @since 0.1.0
    */
-  public static void writeToFile(final Path filePath, final String content) {
+  public static boolean writeToFile(final Path filePath, final String content) {
+    return writeToFile(filePath, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes the UTF-8 encoded {@code bytes} to a file at {@code filePath} - unless the file already
+   * has the same {@code bytes}. Creates the directory and file if needed.
+   *
+   * @param filePath of the file.
+   * @param bytes of the file, encoded as UTF-8.
+   * @return {@code true} if written, or {@code false} if the content was unchanged.
+   * @since 0.11.0
+   */
+  public static boolean writeToFile(final Path filePath, final byte[] bytes) {
     try {
-      Files.createDirectories(filePath.getParent());
-      Files.writeString(
-          filePath, content, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+      if (Files.isRegularFile(filePath)
+          && Files.size(filePath) == bytes.length
+          && Arrays.equals(Files.readAllBytes(filePath), bytes)) {
+        return false;
+      }
+      try {
+        Files.write(
+            filePath, bytes, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+      } catch (final NoSuchFileException e) {
+        Files.createDirectories(filePath.getParent());
+        Files.write(
+            filePath, bytes, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+      }
+      return true;
     } catch (final Exception e) {
       throw new RuntimeException(e);
     }
   }
+
+  /**
+   * Returns the path of the {@code .java} file of the {@code fullyQualifiedClassName}, relative to
+   * its output root.
+   *
+   * @param fullyQualifiedClassName of the class.
+   * @return the relative path.
+   * @since 0.11.0
+   */
+  public static String relativePath(final String fullyQualifiedClassName) {
+    return fullyQualifiedClassName.replace('.', '/') + ".java";
+  }
+
+  /**
+   * Deletes the <em>stale</em> files of the output {@code root} - i.e. the files recorded in its
+   * manifest by the previous run, which have not been produced by the current run. Files which are
+   * not recorded in the manifest are never deleted. Directories left empty are deleted.
+   *
+   * <p>Afterwards, the manifest records the files produced by the current run.
+   *
+   * @param root of the output, as an absolute and normalized path.
+   * @param producedFiles by the current run, relative to the {@code root}.
+   * @return the deleted files.
+   * @since 0.11.0
+   */
+  public static List<Path> pruneStaleFiles(final Path root, final Set<String> producedFiles) {
+    final Path manifestFile = root.resolve(MANIFEST_FILE_NAME);
+    final Set<String> produced = new TreeSet<>(producedFiles);
+    final List<Path> prunedFiles = new ArrayList<>();
+    try {
+      if (Files.isRegularFile(manifestFile)) {
+        for (final String relativePath : Files.readAllLines(manifestFile)) {
+          final Path file = root.resolve(relativePath).normalize();
+          if (relativePath.isBlank()
+              || produced.contains(relativePath)
+              || !file.startsWith(root)
+              || !Files.deleteIfExists(file)) {
+            continue;
+          }
+          prunedFiles.add(file);
+          for (Path parent = file.getParent();
+              !parent.equals(root) && isEmptyDirectory(parent);
+              parent = parent.getParent()) {
+            Files.delete(parent);
+          }
+        }
+      }
+      Files.createDirectories(root);
+      final Path temporaryFile = Files.createTempFile(root, MANIFEST_FILE_NAME, ".tmp");
+      Files.write(temporaryFile, produced);
+      try {
+        Files.move(
+            temporaryFile,
+            manifestFile,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, manifestFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return prunedFiles;
+  }
+
+  /**
+   * Reads the manifest of the output root {@code directory} - i.e. the files produced by the
+   * previous run.
+   *
+   * @param directory of the output root.
+   * @return the recorded files, or an empty list if there is no manifest.
+   * @since 0.11.0
+   */
+  public static List<Path> readManifest(final String directory) {
+    final Path root = Path.of(directory).toAbsolutePath().normalize();
+    final Path manifestFile = root.resolve(MANIFEST_FILE_NAME);
+    final List<Path> recordedFiles = new ArrayList<>();
+    try {
+      if (Files.isRegularFile(manifestFile)) {
+        for (final String relativePath : Files.readAllLines(manifestFile)) {
+          if (!relativePath.isBlank()) {
+            recordedFiles.add(root.resolve(relativePath).normalize());
+          }
+        }
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return recordedFiles;
+  }
+
+  private static boolean isEmptyDirectory(final Path directory) throws IOException {
+    try (final var entries = Files.list(directory)) {
+      return entries.findAny().isEmpty();
+    }
+  }
 }
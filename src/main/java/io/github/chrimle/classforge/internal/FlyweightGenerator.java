@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import java.util.List;
+import org.apiguardian.api.API;
+
+/**
+ * Generates the source code of <em>flyweight</em> accessors, which read and write values at fixed
+ * offsets of a {@link java.nio.ByteBuffer} - without materializing any objects.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class FlyweightGenerator {
+
+  private FlyweightGenerator() {}
+
+  /**
+   * Determines the smallest fixed width, in bytes, which fits every <em>wire ID</em> up to {@code
+   * maxWireId}.
+   *
+   * @param maxWireId of the enum class.
+   * @return {@link Byte#BYTES}, {@link Short#BYTES} or {@link Integer#BYTES}.
+   * @since 0.11.0
+   */
+  public static int requiredBytes(final int maxWireId) {
+    if (maxWireId <= 0xFF) {
+      return Byte.BYTES;
+    }
+    if (maxWireId <= 0xFFFF) {
+      return Short.BYTES;
+    }
+    return Integer.BYTES;
+  }
+
+  /**
+   * Generates the flyweight accessor members of an {@code enum}. Each enum constant is stored as
+   * its <em>wire ID</em>, in a fixed width of {@code flyweightBytes}, hence requires the members of
+   * {@link BinaryCodecGenerator#generateEnumWireIdMembers(String, List)}.
+   *
+   * @param className of the enum class.
+   * @param flyweightBytes of each value, at least {@link #requiredBytes(int)}.
+   * @return the member declarations.
+   * @since 0.11.0
+   */
+  public static List<String> generateEnumMembers(final String className, final int flyweightBytes) {
+    final String getter;
+    final String setter;
+    switch (flyweightBytes) {
+      case Byte.BYTES -> {
+        getter = "buffer.get(offset) & 0xFF";
+        setter = "buffer.put(offset, (byte) WIRE_IDS[ordinal()])";
+      }
+      case Short.BYTES -> {
+        getter = "buffer.getShort(offset) & 0xFFFF";
+        setter = "buffer.putShort(offset, (short) WIRE_IDS[ordinal()])";
+      }
+      case Integer.BYTES -> {
+        getter = "buffer.getInt(offset)";
+        setter = "buffer.putInt(offset, WIRE_IDS[ordinal()])";
+      }
+      default ->
+          throw ExceptionFactory.notSupportedException(
+              "flyweightBytes", String.valueOf(flyweightBytes));
+    }
+    return List.of(
+        """
+          /**
+           * The number of bytes of a flyweight value. <strong>Layout:</strong> the wire ID of the
+           * enum constant, as an unsigned integer of {@value} byte(s), in the byte order of the
+           * buffer.
+           */
+          public static final int FLYWEIGHT_BYTES = %d;\
+        """
+            .formatted(flyweightBytes),
+        """
+          public static %1$s getAt(final java.nio.ByteBuffer buffer, final int offset) {
+            final int wireId = %2$s;
+            final %1$s enumConstant = fromWireId(wireId);
+            if (enumConstant == null) {
+              throw new IllegalArgumentException(
+                  "Unexpected wire id " + wireId + " at offset " + offset);
+            }
+            return enumConstant;
+          }\
+        """
+            .formatted(className, getter),
+        """
+          public void putAt(final java.nio.ByteBuffer buffer, final int offset) {
+            %s;
+          }\
+        """
+            .formatted(setter));
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Java Flight Recorder (JFR)</em> event of a <em>phase</em> of generating a class. Events are
+ * only populated and committed if {@link #shouldCommit()}, hence there is no overhead when
+ * recording is disabled.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+@Category({"ClassForge", "Generation"})
+@StackTrace(false)
+public abstract class GenerationEvent extends Event {
+
+  @Label("Class")
+  @Description("Fully Qualified Class Name of the generated class")
+  @Nullable String fullyQualifiedClassName;
+
+  @Label("Version")
+  @Description("SemVer of the generated class")
+  @Nullable String semVer;
+
+  @Label("Bytes")
+  @Description("Bytes produced by the phase")
+  @DataAmount
+  long bytes;
+
+  @Label("Template")
+  @Description("Template used to render the generated class")
+  @Nullable String template;
+
+  private GenerationEvent() {}
+
+  /**
+   * Populates and commits <em>this</em> event, if {@link #shouldCommit()}. {@link #end()} is
+   * invoked implicitly, unless already invoked.
+   *
+   * @param fullyQualifiedClassName of the generated class.
+   * @param semVer of the generated class.
+   * @param bytes produced by the phase.
+   * @param template used to render the generated class.
+   * @since 0.11.0
+   */
+  public void commit(
+      final @Nullable String fullyQualifiedClassName,
+      final String semVer,
+      final long bytes,
+      final @Nullable String template) {
+    if (shouldCommit()) {
+      this.fullyQualifiedClassName = fullyQualifiedClassName;
+      this.semVer = semVer;
+      this.bytes = bytes;
+      this.template = template;
+      commit();
+    }
+  }
+
+  /**
+   * Event of <em>validating</em> the <em>currently uncommitted</em> class.
+   *
+   * @since 0.11.0
+   */
+  @Name("io.github.chrimle.classforge.Validation")
+  @Label("Validation")
+  @Description("Validation of a class before it is generated")
+  public static final class Validation extends GenerationEvent {}
+
+  /**
+   * Event of <em>rendering</em> the source code of a class from its {@code Model}.
+   *
+   * @since 0.11.0
+   */
+  @Name("io.github.chrimle.classforge.Render")
+  @Label("Render")
+  @Description("Rendering of the source code of a class")
+  public static final class Render extends GenerationEvent {}
+
+  /**
+   * Event of the <em>output</em> of a generated class - to its {@code .java} file, or to an {@code
+   * OutputSink} or {@code ClassFileSink}.
+   *
+   * @since 0.11.0
+   */
+  @Name("io.github.chrimle.classforge.Write")
+  @Label("Write")
+  @Description("Output of the generated class")
+  public static final class Write extends GenerationEvent {}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Validates identifiers, such as {@code class}-names, {@code package}-names and enum constant
+ * names. Each method is a hand-written scanner, which accepts <em>exactly</em> the same
+ * identifiers as the corresponding <em>RegEx</em>, without compiling a {@link
+ * java.util.regex.Pattern} or allocating.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class IdentifierValidator {
+
+  private IdentifierValidator() {}
+
+  /**
+   * Determines whether the {@code className} matches {@link ClassForge#VALID_CLASS_NAME_REGEX}.
+   *
+   * @param className to validate.
+   * @return {@code true} if valid, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public static boolean isValidClassName(final @Nullable String className) {
+    if (className == null || className.isEmpty() || !isUpperCaseLetter(className.charAt(0))) {
+      return false;
+    }
+    for (int i = 1; i < className.length(); i++) {
+      if (!isWordCharacter(className.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether the {@code packageName} matches {@link
+   * ClassForge#VALID_PACKAGE_NAME_REGEX}.
+   *
+   * @param packageName to validate.
+   * @return {@code true} if valid, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public static boolean isValidPackageName(final @Nullable String packageName) {
+    if (packageName == null || packageName.isEmpty()) {
+      return false;
+    }
+    boolean isSegmentEmpty = true;
+    for (int i = 0; i < packageName.length(); i++) {
+      final char c = packageName.charAt(i);
+      if (c == '.') {
+        if (isSegmentEmpty) {
+          return false;
+        }
+        isSegmentEmpty = true;
+      } else if (isWordCharacter(c)) {
+        isSegmentEmpty = false;
+      } else {
+        return false;
+      }
+    }
+    return !isSegmentEmpty;
+  }
+
+  /**
+   * Determines whether the {@code enumConstantName} matches {@link
+   * EnumBuilder#VALID_ENUM_CONSTANT_NAME_REGEX}. That is, consisting of only letters, digits and
+   * underscores - starting with a letter, or with underscores followed by a letter or digit.
+   *
+   * @param enumConstantName to validate.
+   * @return {@code true} if valid, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public static boolean isValidEnumConstantName(final @Nullable String enumConstantName) {
+    if (enumConstantName == null || enumConstantName.isEmpty()) {
+      return false;
+    }
+    int i = 0;
+    while (i < enumConstantName.length() && enumConstantName.charAt(i) == '_') {
+      i++;
+    }
+    if (i == enumConstantName.length()) {
+      return false;
+    }
+    final char first = enumConstantName.charAt(i);
+    if (i == 0 ? !isLetter(first) : !(isLetter(first) || isDigit(first))) {
+      return false;
+    }
+    for (i++; i < enumConstantName.length(); i++) {
+      if (!isWordCharacter(enumConstantName.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether the {@code identifier} is one of {@link ClassForge#RESERVED_KEYWORDS}, in
+   * constant time.
+   *
+   * @param identifier to check.
+   * @return {@code true} if reserved, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public static boolean isReservedKeyword(final String identifier) {
+    return ClassForge.RESERVED_KEYWORDS.contains(identifier);
+  }
+
+  private static boolean isUpperCaseLetter(final char c) {
+    return c >= 'A' && c <= 'Z';
+  }
+
+  private static boolean isLetter(final char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isWordCharacter(final char c) {
+    return isLetter(c) || isDigit(c) || c == '_';
+  }
+}
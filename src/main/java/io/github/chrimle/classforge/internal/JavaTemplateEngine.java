@@ -21,11 +21,19 @@ import gg.jte.ContentType;
 import gg.jte.TemplateEngine;
 import gg.jte.output.StringOutput;
 import gg.jte.resolve.DirectoryCodeResolver;
+import gg.jte.resolve.ResourceCodeResolver;
 import io.github.chrimle.classforge.Model;
 import io.github.chrimle.classforge.classes.ClassModel;
 import io.github.chrimle.classforge.enums.EnumModel;
 import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apiguardian.api.API;
 
 /**
@@ -36,40 +44,82 @@ import org.apiguardian.api.API;
 @API(status = API.Status.INTERNAL, since = "0.11.0")
 public final class JavaTemplateEngine {
 
+  private static final String CLASS_TEMPLATE = "class.jte";
+  private static final String ENUM_TEMPLATE = "enum.jte";
+
   private static final CodeResolver codeResolver;
   private static final TemplateEngine templateEngine;
+  private static final Map<String, String> templateFingerprints = new ConcurrentHashMap<>();
 
   private JavaTemplateEngine() {}
 
   static {
-    try {
-      codeResolver =
-          new DirectoryCodeResolver(Path.of(ClassLoader.getSystemResource("jte").toURI()));
-    } catch (URISyntaxException e) {
-      throw new IllegalStateException("Could not load JTE-templates!", e);
+    final URL templateDirectory = ClassLoader.getSystemResource("jte");
+    if (templateDirectory != null && "file".equals(templateDirectory.getProtocol())) {
+      try {
+        codeResolver = new DirectoryCodeResolver(Path.of(templateDirectory.toURI()));
+      } catch (URISyntaxException e) {
+        throw new IllegalStateException("Could not load JTE-templates!", e);
+      }
+    } else {
+      // Packaged in a JAR - e.g. when ClassForge is a dependency
+      codeResolver = new ResourceCodeResolver("jte", JavaTemplateEngine.class.getClassLoader());
     }
     templateEngine = TemplateEngine.create(codeResolver, ContentType.Plain);
   }
 
   public static StringOutput generateModelAsString(final Model model) {
-    if (model instanceof EnumModel<?> enumModel) {
-      return generateEnumClassAsString(enumModel);
-    }
-    if (model instanceof ClassModel classModel) {
-      return generateClassAsString(classModel);
-    }
-    throw new UnsupportedOperationException("Failed to generate code from Model: " + model);
-  }
-
-  private static StringOutput generateEnumClassAsString(final EnumModel<?> enumModel) {
     final var output = new StringOutput();
-    templateEngine.render("enum.jte", enumModel, output);
+    templateEngine.render(resolveTemplateName(model), model, output);
     return output;
   }
 
   public static StringOutput generateClassAsString(final ClassModel classModel) {
-    final var output = new StringOutput();
-    templateEngine.render("class.jte", classModel, output);
-    return output;
+    return generateModelAsString(classModel);
+  }
+
+  /**
+   * Resolves the name of the template which renders the {@code model}.
+   *
+   * @param model to render.
+   * @return the template name.
+   * @since 0.11.0
+   */
+  public static String resolveTemplateName(final Model model) {
+    if (model instanceof EnumModel<?>) {
+      return ENUM_TEMPLATE;
+    }
+    if (model instanceof ClassModel) {
+      return CLASS_TEMPLATE;
+    }
+    throw new UnsupportedOperationException("Failed to generate code from Model: " + model);
+  }
+
+  /**
+   * Returns the <em>fingerprint</em> of the template named {@code templateName}, as the
+   * hexadecimal SHA-256 hash of its contents. Computed once per template.
+   *
+   * @param templateName of the template.
+   * @return the fingerprint.
+   * @throws IllegalStateException if the template does not exist.
+   * @since 0.11.0
+   */
+  public static String templateFingerprint(final String templateName) {
+    return templateFingerprints.computeIfAbsent(
+        templateName,
+        name -> {
+          final String template = codeResolver.resolve(name);
+          if (template == null) {
+            throw new IllegalStateException("Could not load JTE-template `%s`!".formatted(name));
+          }
+          try {
+            return HexFormat.of()
+                .formatHex(
+                    MessageDigest.getInstance("SHA-256")
+                        .digest(template.getBytes(StandardCharsets.UTF_8)));
+          } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+          }
+        });
   }
 }
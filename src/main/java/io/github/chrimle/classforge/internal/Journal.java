@@ -0,0 +1,440 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Persistent, append-only <em>journal</em> of the changesets of a single {@code Builder}, with
+ * periodic <em>snapshots</em> of its complete state.
+ *
+ * <p>Both files consist of one {@link Entry} per line, as tab-separated and escaped fields -
+ * prefixed by a monotonically increasing <em>sequence number</em>. Writing a snapshot truncates
+ * the journal, hence resuming only replays the entries written since the latest snapshot. Entries
+ * of the journal which are already included in the snapshot (e.g. if interrupted before the
+ * journal was truncated), are ignored - and an incomplete trailing line is truncated.
+ *
+ * <p>The journal file is kept open, and <em>locked</em>, until {@link #close()} - hence a journal
+ * can only be opened by a single {@code Builder} at a time, across processes.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class Journal implements AutoCloseable {
+
+  /**
+   * The file name of the journal.
+   *
+   * @since 0.11.0
+   */
+  public static final String JOURNAL_FILE_NAME = "journal.log";
+
+  /**
+   * The file name of the latest snapshot.
+   *
+   * @since 0.11.0
+   */
+  public static final String SNAPSHOT_FILE_NAME = "snapshot.log";
+
+  /**
+   * The default number of <em>commits</em> between snapshots.
+   *
+   * @since 0.11.0
+   */
+  public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+  private static final String NULL_FIELD = "\\N";
+
+  private final Path journalFile;
+  private final Path snapshotFile;
+  private final FileChannel journalChannel;
+  private final FileLock journalLock;
+  private final int snapshotInterval;
+  private final List<Entry> entries;
+  private long sequence;
+  private int commitsSinceSnapshot;
+
+  private Journal(
+      final Path directory,
+      final FileChannel journalChannel,
+      final FileLock journalLock,
+      final int snapshotInterval,
+      final List<Entry> entries,
+      final long sequence) {
+    this.journalFile = directory.resolve(JOURNAL_FILE_NAME);
+    this.snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+    this.journalChannel = journalChannel;
+    this.journalLock = journalLock;
+    this.snapshotInterval = snapshotInterval;
+    this.entries = entries;
+    this.sequence = sequence;
+  }
+
+  /**
+   * An operation of the journal, or a part of the state of a snapshot.
+   *
+   * @param operation of the entry.
+   * @param arguments of the entry, of which any <strong>MAY</strong> be {@code null}.
+   * @since 0.11.0
+   */
+  public record Entry(String operation, List<@Nullable String> arguments) {
+
+    /**
+     * Returns the argument at {@code index}.
+     *
+     * @param index of the argument.
+     * @return the argument.
+     * @throws IllegalStateException if the argument is missing or {@code null}.
+     * @since 0.11.0
+     */
+    public String argument(final int index) {
+      final String argument = index < arguments.size() ? arguments.get(index) : null;
+      if (argument == null) {
+        throw new IllegalStateException(
+            "Journal entry `%s` is missing argument %d".formatted(operation, index));
+      }
+      return argument;
+    }
+
+    /**
+     * Returns the non-{@code null} arguments from {@code fromIndex}.
+     *
+     * @param fromIndex of the first argument.
+     * @return the arguments.
+     * @since 0.11.0
+     */
+    public String[] argumentsFrom(final int fromIndex) {
+      final var result = new String[Math.max(0, arguments.size() - fromIndex)];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = argument(fromIndex + i);
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Opens and locks the journal in the {@code directory}, creating the directory if needed. An
+   * incomplete trailing line of the journal - e.g. if interrupted while appending - is truncated.
+   *
+   * @param directory of the journal.
+   * @param snapshotInterval number of <em>commits</em> between snapshots.
+   * @return the journal.
+   * @throws IllegalStateException if the journal is already opened - by this or another process.
+   * @since 0.11.0
+   */
+  public static Journal open(final Path directory, final int snapshotInterval) {
+    final Path journalFile = directory.resolve(JOURNAL_FILE_NAME);
+    FileChannel journalChannel = null;
+    try {
+      Files.createDirectories(directory);
+      journalChannel =
+          FileChannel.open(
+              journalFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      final FileLock journalLock = tryLock(journalChannel);
+      if (journalLock == null) {
+        throw new IllegalStateException("Journal `%s` is already in use".formatted(journalFile));
+      }
+      final List<Entry> entries = new ArrayList<>();
+      final Path snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+      final long snapshotSequence =
+          Files.exists(snapshotFile)
+              ? read(snapshotFile, Files.readString(snapshotFile), -1, entries)
+              : -1;
+      final String journal = readCompleteLines(journalChannel);
+      final long sequence = read(journalFile, journal, snapshotSequence, entries);
+      return new Journal(
+          directory,
+          journalChannel,
+          journalLock,
+          snapshotInterval,
+          entries,
+          Math.max(snapshotSequence, sequence));
+    } catch (final IOException | RuntimeException e) {
+      if (journalChannel != null) {
+        try {
+          journalChannel.close();
+        } catch (final IOException suppressed) {
+          e.addSuppressed(suppressed);
+        }
+      }
+      if (e instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Returns the entries of the latest snapshot, followed by the entries of the journal written
+   * since, as read when {@link #open(Path, int) opened}.
+   *
+   * @return the entries to resume from, or an empty list if the journal is new.
+   * @since 0.11.0
+   */
+  public List<Entry> entries() {
+    return entries;
+  }
+
+  /**
+   * Appends an entry to the journal.
+   *
+   * @param operation of the entry.
+   * @param arguments of the entry.
+   * @since 0.11.0
+   */
+  public void append(final String operation, final @Nullable String... arguments) {
+    final var content = new StringBuilder();
+    appendEntry(content, ++sequence, new Entry(operation, Arrays.asList(arguments)));
+    writeJournal(content, false);
+  }
+
+  /**
+   * Appends a <em>commit</em> entry to the journal, and forces it to storage.
+   *
+   * @param operation of the entry.
+   * @param arguments of the entry.
+   * @return {@code true} if a snapshot is due, otherwise {@code false}.
+   * @since 0.11.0
+   */
+  public boolean appendCommit(final String operation, final @Nullable String... arguments) {
+    final var content = new StringBuilder();
+    appendEntry(content, ++sequence, new Entry(operation, Arrays.asList(arguments)));
+    writeJournal(content, true);
+    return ++commitsSinceSnapshot >= snapshotInterval;
+  }
+
+  /**
+   * Writes the {@code snapshot} atomically, replacing the previous snapshot, and truncates the
+   * journal.
+   *
+   * @param snapshot entries of the complete state.
+   * @since 0.11.0
+   */
+  public void writeSnapshot(final List<Entry> snapshot) {
+    ensureOpen();
+    final Path temporaryFile = snapshotFile.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+    final var content = new StringBuilder();
+    sequence++;
+    for (final Entry entry : snapshot) {
+      appendEntry(content, sequence, entry);
+    }
+    try {
+      try (final FileChannel channel =
+          FileChannel.open(
+              temporaryFile,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        write(channel, content);
+        channel.force(false);
+      }
+      try {
+        Files.move(
+            temporaryFile,
+            snapshotFile,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      journalChannel.truncate(0);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    commitsSinceSnapshot = 0;
+  }
+
+  /**
+   * Releases the lock of the journal, and closes it. Subsequent writes are rejected.
+   *
+   * @since 0.11.0
+   */
+  @Override
+  public void close() {
+    try {
+      if (journalChannel.isOpen()) {
+        journalLock.release();
+      }
+      journalChannel.close();
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void ensureOpen() {
+    if (!journalChannel.isOpen()) {
+      throw new IllegalStateException("Journal `%s` is closed".formatted(journalFile));
+    }
+  }
+
+  private void writeJournal(final StringBuilder content, final boolean force) {
+    ensureOpen();
+    try {
+      write(journalChannel, content);
+      if (force) {
+        journalChannel.force(false);
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void appendEntry(
+      final StringBuilder content, final long sequence, final Entry entry) {
+    content.append(sequence).append('\t').append(entry.operation());
+    for (final String argument : entry.arguments()) {
+      content.append('\t');
+      escape(content, argument);
+    }
+    content.append('\n');
+  }
+
+  private static void write(final FileChannel channel, final StringBuilder content)
+      throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private static @Nullable FileLock tryLock(final FileChannel channel) throws IOException {
+    try {
+      return channel.tryLock();
+    } catch (final OverlappingFileLockException e) {
+      // Locked by this process
+      return null;
+    }
+  }
+
+  /**
+   * Reads the complete lines of the {@code channel} - i.e. up to and including its last {@code
+   * '\n'} - and truncates the incomplete trailing line, if any. The position of the {@code
+   * channel} is set to its end.
+   *
+   * @return the complete lines.
+   */
+  private static String readCompleteLines(final FileChannel channel) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, buffer.position()) < 0) {
+        break;
+      }
+    }
+    int length = buffer.position();
+    while (length > 0 && buffer.get(length - 1) != '\n') {
+      length--;
+    }
+    channel.truncate(length);
+    channel.position(length);
+    return new String(buffer.array(), 0, length, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads the complete lines of the {@code content} of the {@code file}, adding the entries with a
+   * sequence number greater than {@code afterSequence} to the {@code entries}.
+   *
+   * @return the greatest sequence number read, or {@code afterSequence} if none.
+   */
+  private static long read(
+      final Path file, final String content, final long afterSequence, final List<Entry> entries) {
+    long sequence = afterSequence;
+    int lineStart = 0;
+    for (int lineEnd = content.indexOf('\n');
+        lineEnd >= 0;
+        lineStart = lineEnd + 1, lineEnd = content.indexOf('\n', lineStart)) {
+      final String[] fields = content.substring(lineStart, lineEnd).split("\t", -1);
+      final long entrySequence;
+      try {
+        entrySequence = Long.parseLong(fields[0]);
+      } catch (final NumberFormatException e) {
+        throw new IllegalStateException("Journal `%s` is corrupted".formatted(file), e);
+      }
+      if (fields.length < 2 || entrySequence <= afterSequence) {
+        continue;
+      }
+      final List<@Nullable String> arguments = new ArrayList<>(fields.length - 2);
+      for (int i = 2; i < fields.length; i++) {
+        arguments.add(unescape(fields[i]));
+      }
+      entries.add(new Entry(fields[1], arguments));
+      sequence = Math.max(sequence, entrySequence);
+    }
+    return sequence;
+  }
+
+  private static void escape(final StringBuilder content, final @Nullable String field) {
+    if (field == null) {
+      content.append(NULL_FIELD);
+      return;
+    }
+    for (int i = 0; i < field.length(); i++) {
+      final char c = field.charAt(i);
+      switch (c) {
+        case '\\' -> content.append("\\\\");
+        case '\t' -> content.append("\\t");
+        case '\n' -> content.append("\\n");
+        case '\r' -> content.append("\\r");
+        default -> content.append(c);
+      }
+    }
+  }
+
+  private static @Nullable String unescape(final String field) {
+    if (field.equals(NULL_FIELD)) {
+      return null;
+    }
+    if (field.indexOf('\\') < 0) {
+      return field;
+    }
+    final var result = new StringBuilder(field.length());
+    for (int i = 0; i < field.length(); i++) {
+      final char c = field.charAt(i);
+      if (c != '\\' || i + 1 == field.length()) {
+        result.append(c);
+        continue;
+      }
+      result.append(
+          switch (field.charAt(++i)) {
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            default -> field.charAt(i);
+          });
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import java.util.List;
+import org.apiguardian.api.API;
+
+/**
+ * Generates the source code of a <em>streaming</em>, reflection-free JSON writer and reader. The
+ * reader consumes a single JSON value from an {@link java.io.InputStream}, one byte at a time -
+ * hence never past the value - and <strong>MUST</strong> be given a buffered stream. Truncated
+ * input is rejected with an {@link java.io.EOFException}.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class JsonCodecGenerator {
+
+  private JsonCodecGenerator() {}
+
+  /**
+   * Generates the JSON codec members of an {@code enum}. Each enum constant is written as a JSON
+   * string of its {@code name}. When reading, the {@code previousNames} of each enum constant are
+   * also accepted.
+   *
+   * @param className of the enum class.
+   * @param enumConstants of the enum class.
+   * @return the member declarations.
+   * @since 0.11.0
+   */
+  public static List<String> generateEnumMembers(
+      final String className, final List<? extends EnumConstantModel<?>> enumConstants) {
+    final var staticInitializer = new StringBuilder();
+    staticInitializer
+        .append("  static {\n")
+        .append("    for (final %s enumConstant : values()) {\n".formatted(className))
+        .append("      JSON_NAMES[enumConstant.ordinal()] =\n")
+        .append("          ('\"' + enumConstant.name() + '\"')")
+        .append(".getBytes(java.nio.charset.StandardCharsets.US_ASCII);\n")
+        .append("      JSON_LOOKUP.put(enumConstant.name(), enumConstant);\n")
+        .append("    }\n");
+    for (final EnumConstantModel<?> enumConstant : enumConstants) {
+      for (final String previousName : enumConstant.previousNames()) {
+        staticInitializer.append(
+            "    JSON_LOOKUP.put(\"%s\", %s);\n".formatted(previousName, enumConstant.name()));
+      }
+    }
+    staticInitializer.append("  }");
+
+    return List.of(
+        """
+          private static final byte[][] JSON_NAMES = new byte[values().length][];\
+        """,
+        """
+          private static final java.util.Map<String, %1$s> JSON_LOOKUP =
+              new java.util.HashMap<>(values().length * 2);\
+        """
+            .formatted(className),
+        staticInitializer.toString(),
+        """
+          public void writeJson(final java.io.OutputStream out) throws java.io.IOException {
+            out.write(JSON_NAMES[ordinal()]);
+          }\
+        """,
+        """
+          public static %1$s readJson(final java.io.InputStream in) throws java.io.IOException {
+            int c = readJsonByte(in);
+            while (c == ' ' || c == '\\t' || c == '\\n' || c == '\\r') {
+              c = readJsonByte(in);
+            }
+            if (c == 'n') {
+              if (readJsonByte(in) == 'u' && readJsonByte(in) == 'l' && readJsonByte(in) == 'l') {
+                return null;
+              }
+              throw new IllegalArgumentException("Expected a JSON string");
+            }
+            if (c != '"') {
+              throw new IllegalArgumentException("Expected a JSON string");
+            }
+            final var name = new StringBuilder();
+            while ((c = readJsonByte(in)) != '"') {
+              if (c != '\\\\') {
+                name.append((char) c);
+                continue;
+              }
+              c = readJsonByte(in);
+              switch (c) {
+                case '"', '\\\\', '/' -> name.append((char) c);
+                case 'b' -> name.append('\\b');
+                case 'f' -> name.append('\\f');
+                case 'n' -> name.append('\\n');
+                case 'r' -> name.append('\\r');
+                case 't' -> name.append('\\t');
+                case 'u' -> {
+                  int codePoint = 0;
+                  for (int i = 0; i < 4; i++) {
+                    final int digit = Character.digit(readJsonByte(in), 16);
+                    if (digit < 0) {
+                      throw new IllegalArgumentException("Invalid JSON unicode escape");
+                    }
+                    codePoint = (codePoint << 4) | digit;
+                  }
+                  name.append((char) codePoint);
+                }
+                default -> throw new IllegalArgumentException("Invalid JSON escape");
+              }
+            }
+            final %1$s enumConstant = JSON_LOOKUP.get(name.toString());
+            if (enumConstant == null) {
+              throw new IllegalArgumentException("Unexpected value '" + name + "'");
+            }
+            return enumConstant;
+          }\
+        """
+            .formatted(className),
+        """
+          private static int readJsonByte(final java.io.InputStream in) throws java.io.IOException {
+            final int b = in.read();
+            if (b < 0) {
+              throw new java.io.EOFException("Unexpected end of JSON input");
+            }
+            return b;
+          }\
+        """);
+  }
+}
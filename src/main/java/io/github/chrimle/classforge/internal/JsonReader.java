@@ -0,0 +1,452 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A <em>streaming</em> JSON reader, which reads one token at a time - hence the size of a document
+ * is only bounded by its largest string, never by the document itself.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class JsonReader {
+
+  /**
+   * A JSON token.
+   *
+   * @since 0.11.0
+   */
+  public enum Token {
+    /** The start of an object - i.e. <code>{</code>. */
+    BEGIN_OBJECT,
+    /** The end of an object - i.e. <code>}</code>. */
+    END_OBJECT,
+    /** The start of an array - i.e. {@code [}. */
+    BEGIN_ARRAY,
+    /** The end of an array - i.e. {@code ]}. */
+    END_ARRAY,
+    /** The name of an object member. */
+    NAME,
+    /** A string value. */
+    STRING,
+    /** A number value. */
+    NUMBER,
+    /** A {@code true} or {@code false} value. */
+    BOOLEAN,
+    /** A {@code null} value. */
+    NULL,
+    /** The end of the document. */
+    END_DOCUMENT
+  }
+
+  /** The <em>RegularExpression (RegEx)</em> of a valid number. */
+  private static final Pattern NUMBER_PATTERN =
+      Pattern.compile("-?(0|[1-9]\\d*)(\\.\\d+)?([eE][+-]?\\d+)?");
+
+  /** The nesting scope of the next token. */
+  private enum Scope {
+    EMPTY_DOCUMENT,
+    NONEMPTY_DOCUMENT,
+    EMPTY_ARRAY,
+    NONEMPTY_ARRAY,
+    EMPTY_OBJECT,
+    NONEMPTY_OBJECT,
+    DANGLING_NAME
+  }
+
+  private final Reader reader;
+  private final char[] buffer = new char[8192];
+  private final StringBuilder value = new StringBuilder();
+  private final Deque<Scope> scopes = new ArrayDeque<>();
+  private int position;
+  private int limit;
+  private int line = 1;
+  private int column;
+  private @Nullable Token peeked;
+
+  /**
+   * Constructor.
+   *
+   * @param reader of the JSON document.
+   */
+  public JsonReader(final Reader reader) {
+    this.reader = reader;
+    this.scopes.push(Scope.EMPTY_DOCUMENT);
+  }
+
+  /**
+   * Returns the type of the next token, without consuming it.
+   *
+   * @return the next token.
+   * @throws IllegalArgumentException if the document is malformed.
+   */
+  public Token peek() {
+    if (peeked != null) {
+      return peeked;
+    }
+    final Scope scope = scopes.pop();
+    final int c = nextNonWhitespace();
+    switch (scope) {
+      case EMPTY_DOCUMENT -> {
+        scopes.push(Scope.NONEMPTY_DOCUMENT);
+        peeked = peekValue(c);
+      }
+      case NONEMPTY_DOCUMENT -> {
+        scopes.push(Scope.NONEMPTY_DOCUMENT);
+        if (c != -1) {
+          throw syntaxError("Expected the end of the document");
+        }
+        peeked = Token.END_DOCUMENT;
+      }
+      case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+        scopes.push(Scope.NONEMPTY_ARRAY);
+        if (c == ']') {
+          peeked = Token.END_ARRAY;
+        } else if (scope == Scope.EMPTY_ARRAY) {
+          peeked = peekValue(c);
+        } else if (c == ',') {
+          peeked = peekValue(nextNonWhitespace());
+        } else {
+          throw syntaxError("Expected ',' or ']'");
+        }
+      }
+      case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+        scopes.push(scope);
+        if (c == '}') {
+          peeked = Token.END_OBJECT;
+        } else if (scope == Scope.EMPTY_OBJECT) {
+          peeked = peekName(c);
+        } else if (c == ',') {
+          peeked = peekName(nextNonWhitespace());
+        } else {
+          throw syntaxError("Expected ',' or '}'");
+        }
+      }
+      case DANGLING_NAME -> {
+        scopes.push(Scope.NONEMPTY_OBJECT);
+        if (c != ':') {
+          throw syntaxError("Expected ':'");
+        }
+        peeked = peekValue(nextNonWhitespace());
+      }
+    }
+    return peeked;
+  }
+
+  /**
+   * Determines whether the current array or object has another element.
+   *
+   * @return {@code true} if there is another element, otherwise {@code false}.
+   * @throws IllegalArgumentException if the document is malformed.
+   */
+  public boolean hasNext() {
+    final Token token = peek();
+    return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+  }
+
+  /**
+   * Consumes the start of an object.
+   *
+   * @throws IllegalArgumentException if the next token is not {@link Token#BEGIN_OBJECT}.
+   */
+  public void beginObject() {
+    consume(Token.BEGIN_OBJECT);
+    scopes.push(Scope.EMPTY_OBJECT);
+  }
+
+  /**
+   * Consumes the end of an object.
+   *
+   * @throws IllegalArgumentException if the next token is not {@link Token#END_OBJECT}.
+   */
+  public void endObject() {
+    consume(Token.END_OBJECT);
+    scopes.pop();
+  }
+
+  /**
+   * Consumes the start of an array.
+   *
+   * @throws IllegalArgumentException if the next token is not {@link Token#BEGIN_ARRAY}.
+   */
+  public void beginArray() {
+    consume(Token.BEGIN_ARRAY);
+    scopes.push(Scope.EMPTY_ARRAY);
+  }
+
+  /**
+   * Consumes the end of an array.
+   *
+   * @throws IllegalArgumentException if the next token is not {@link Token#END_ARRAY}.
+   */
+  public void endArray() {
+    consume(Token.END_ARRAY);
+    scopes.pop();
+  }
+
+  /**
+   * Consumes the name of an object member.
+   *
+   * @return the name.
+   * @throws IllegalArgumentException if the next token is not {@link Token#NAME}.
+   */
+  public String nextName() {
+    consume(Token.NAME);
+    scopes.pop();
+    scopes.push(Scope.DANGLING_NAME);
+    return readString();
+  }
+
+  /**
+   * Consumes a string value.
+   *
+   * @return the string.
+   * @throws IllegalArgumentException if the next token is not {@link Token#STRING}.
+   */
+  public String nextString() {
+    consume(Token.STRING);
+    return readString();
+  }
+
+  /**
+   * Consumes a {@code true} or {@code false} value.
+   *
+   * @return the boolean.
+   * @throws IllegalArgumentException if the next token is not {@link Token#BOOLEAN}.
+   */
+  public boolean nextBoolean() {
+    consume(Token.BOOLEAN);
+    return readLiteral().equals("true");
+  }
+
+  /**
+   * Consumes the next value - including every nested value of an array or object.
+   *
+   * @throws IllegalArgumentException if the next token is not a value.
+   */
+  public void skipValue() {
+    int depth = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_OBJECT -> {
+          beginObject();
+          depth++;
+        }
+        case BEGIN_ARRAY -> {
+          beginArray();
+          depth++;
+        }
+        case END_OBJECT -> {
+          endObject();
+          depth--;
+        }
+        case END_ARRAY -> {
+          endArray();
+          depth--;
+        }
+        case NAME -> nextName();
+        case STRING -> nextString();
+        case NUMBER, BOOLEAN, NULL -> {
+          peeked = null;
+          readLiteral();
+        }
+        case END_DOCUMENT -> throw syntaxError("Expected a value");
+      }
+    } while (depth > 0);
+  }
+
+  /**
+   * Consumes the end of the document.
+   *
+   * @throws IllegalArgumentException if the document has any trailing content.
+   */
+  public void endDocument() {
+    consume(Token.END_DOCUMENT);
+  }
+
+  /**
+   * Creates an {@link IllegalArgumentException} for an invalid value, at the current position.
+   *
+   * @param message of the exception.
+   * @return the exception.
+   */
+  public IllegalArgumentException valueError(final String message) {
+    return new IllegalArgumentException(
+        "%s at line %d, column %d".formatted(message, line, column));
+  }
+
+  private void consume(final Token expected) {
+    final Token token = peek();
+    if (token != expected) {
+      throw syntaxError("Expected %s but was %s".formatted(expected, token));
+    }
+    peeked = null;
+  }
+
+  private Token peekName(final int c) {
+    if (c != '"') {
+      throw syntaxError("Expected a name");
+    }
+    return Token.NAME;
+  }
+
+  private Token peekValue(final int c) {
+    return switch (c) {
+      case '{' -> Token.BEGIN_OBJECT;
+      case '[' -> Token.BEGIN_ARRAY;
+      case '"' -> Token.STRING;
+      case 't', 'f' -> {
+        unread();
+        yield Token.BOOLEAN;
+      }
+      case 'n' -> {
+        unread();
+        yield Token.NULL;
+      }
+      case '-', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> {
+        unread();
+        yield Token.NUMBER;
+      }
+      default -> throw syntaxError("Expected a value");
+    };
+  }
+
+  /** Unreads the last read character, which is always still in the {@code buffer}. */
+  private void unread() {
+    if (buffer[--position] == '\n') {
+      line--;
+    } else {
+      column--;
+    }
+  }
+
+  /** Reads the remainder of a string, after its opening quote. */
+  private String readString() {
+    value.setLength(0);
+    while (true) {
+      final int c = read();
+      if (c == '"') {
+        return value.toString();
+      }
+      if (c == -1) {
+        throw syntaxError("Unterminated string");
+      }
+      if (c < 0x20) {
+        throw syntaxError("Unescaped control character in string");
+      }
+      if (c != '\\') {
+        value.append((char) c);
+        continue;
+      }
+      final int escaped = read();
+      switch (escaped) {
+        case '"', '\\', '/' -> value.append((char) escaped);
+        case 'b' -> value.append('\b');
+        case 'f' -> value.append('\f');
+        case 'n' -> value.append('\n');
+        case 'r' -> value.append('\r');
+        case 't' -> value.append('\t');
+        case 'u' -> {
+          int codeUnit = 0;
+          for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(read(), 16);
+            if (digit < 0) {
+              throw syntaxError("Invalid unicode escape");
+            }
+            codeUnit = (codeUnit << 4) | digit;
+          }
+          value.append((char) codeUnit);
+        }
+        default -> throw syntaxError("Invalid escape");
+      }
+    }
+  }
+
+  /** Reads a number, {@code true}, {@code false} or {@code null}. */
+  private String readLiteral() {
+    value.setLength(0);
+    while (true) {
+      final int c = read();
+      if (c == -1) {
+        break;
+      }
+      if (!Character.isLetterOrDigit(c) && c != '-' && c != '+' && c != '.') {
+        unread();
+        break;
+      }
+      value.append((char) c);
+    }
+    final String literal = value.toString();
+    if (!literal.equals("true")
+        && !literal.equals("false")
+        && !literal.equals("null")
+        && !NUMBER_PATTERN.matcher(literal).matches()) {
+      throw syntaxError("Invalid literal `%s`".formatted(literal));
+    }
+    return literal;
+  }
+
+  private int nextNonWhitespace() {
+    int c;
+    do {
+      c = read();
+    } while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+    return c;
+  }
+
+  private int read() {
+    if (position == limit && !fill()) {
+      return -1;
+    }
+    final char c = buffer[position++];
+    if (c == '\n') {
+      line++;
+      column = 0;
+    } else {
+      column++;
+    }
+    return c;
+  }
+
+  private boolean fill() {
+    try {
+      final int read = reader.read(buffer);
+      if (read <= 0) {
+        return false;
+      }
+      position = 0;
+      limit = read;
+      return true;
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private IllegalArgumentException syntaxError(final String message) {
+    return valueError("Malformed JSON: " + message);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import io.github.chrimle.classforge.Model;
+import io.github.chrimle.classforge.classes.ClassModel;
+import io.github.chrimle.classforge.enums.EnumModel;
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <em>Content-addressed</em> on-disk cache of rendered source code, which <strong>MAY</strong> be
+ * shared across runs. Each entry is keyed by the SHA-256 hash of the {@link Model}, the
+ * <em>fingerprint</em> of the template which renders it, and the version of ClassForge - hence
+ * entries are never invalidated, only superseded by new keys.
+ *
+ * <p>Entries are written atomically, hence a cache directory <strong>MAY</strong> be shared by
+ * concurrent processes.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class RenderCache {
+
+  private static final String CLASS_FORGE_VERSION = resolveClassForgeVersion();
+
+  private final Path directory;
+
+  /**
+   * Constructor.
+   *
+   * @param directory of the cache.
+   * @since 0.11.0
+   */
+  public RenderCache(final Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the cached source code of the {@code model}, or renders and caches it on a miss.
+   *
+   * @param model to render.
+   * @return the source code.
+   * @since 0.11.0
+   */
+  public String render(final Model model) {
+    final String key = key(model);
+    final Path entry = directory.resolve(key.substring(0, 2)).resolve(key + ".java");
+    try {
+      return Files.readString(entry, StandardCharsets.UTF_8);
+    } catch (final NoSuchFileException e) {
+      // Cache miss
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    final String fileContent = JavaTemplateEngine.generateModelAsString(model).toString();
+    try {
+      Files.createDirectories(entry.getParent());
+      final Path temporaryFile = Files.createTempFile(entry.getParent(), key, ".tmp");
+      Files.writeString(temporaryFile, fileContent, StandardCharsets.UTF_8);
+      try {
+        Files.move(
+            temporaryFile,
+            entry,
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(temporaryFile, entry, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return fileContent;
+  }
+
+  /**
+   * Computes the <em>key</em> of the {@code model}, as the hexadecimal SHA-256 hash of the {@code
+   * model}, the fingerprint of its template and the version of ClassForge.
+   *
+   * @param model to compute the key of.
+   * @return the key.
+   * @since 0.11.0
+   */
+  public static String key(final Model model) {
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    final String templateName = JavaTemplateEngine.resolveTemplateName(model);
+    update(digest, CLASS_FORGE_VERSION);
+    update(digest, templateName);
+    update(digest, JavaTemplateEngine.templateFingerprint(templateName));
+    if (model instanceof ClassModel classModel) {
+      update(digest, classModel.packageName());
+      update(digest, classModel.className());
+    } else if (model instanceof EnumModel<?> enumModel) {
+      update(digest, enumModel.packageName());
+      update(digest, enumModel.className());
+      update(digest, String.valueOf(enumModel.enumConstants().size()));
+      for (final EnumConstantModel<?> enumConstant : enumModel.enumConstants()) {
+        update(digest, enumConstant.name());
+        update(digest, enumConstant.previousNames());
+        update(digest, String.valueOf(enumConstant.wireId()));
+      }
+      update(digest, enumModel.members());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /** Updates the {@code digest} with the length-prefixed {@code values}. */
+  private static void update(final MessageDigest digest, final List<String> values) {
+    update(digest, String.valueOf(values.size()));
+    for (final String value : values) {
+      update(digest, value);
+    }
+  }
+
+  /** Updates the {@code digest} with the length-prefixed {@code value}. */
+  private static void update(final MessageDigest digest, final @Nullable String value) {
+    if (value == null) {
+      digest.update(ByteBuffer.allocate(4).putInt(-1).array());
+      return;
+    }
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+    digest.update(bytes);
+  }
+
+  private static String resolveClassForgeVersion() {
+    final var descriptor = RenderCache.class.getModule().getDescriptor();
+    if (descriptor != null && descriptor.rawVersion().isPresent()) {
+      return descriptor.rawVersion().get();
+    }
+    final String implementationVersion = RenderCache.class.getPackage().getImplementationVersion();
+    return implementationVersion != null ? implementationVersion : "unknown";
+  }
+}
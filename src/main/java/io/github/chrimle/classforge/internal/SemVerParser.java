@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import io.github.chrimle.semver.SemVer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parses {@link SemVer}-instances from, and into, their {@code major}, {@code minor} and {@code
+ * patch} version. Accepts the format of {@link SemVer#toCompleteVersionString()}, with or without
+ * the leading {@code v}.
+ *
+ * <p><em><strong>FOR INTERNAL USE ONLY.</strong></em>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.INTERNAL, since = "0.11.0", consumers = "io.github.chrimle.classforge")
+public final class SemVerParser {
+
+  /** The <em>RegularExpression (RegEx)</em> of a complete version string. */
+  private static final Pattern SEM_VER_PATTERN =
+      Pattern.compile("v?(\\d{1,9})\\.(\\d{1,9})\\.(\\d{1,9})");
+
+  private SemVerParser() {}
+
+  /**
+   * Parses the {@code semVer}.
+   *
+   * @param semVer to parse, such as {@code v1.2.3} or {@code 1.2.3}.
+   * @return the parsed {@link SemVer}, or {@code null} if {@code semVer} is malformed.
+   * @since 0.11.0
+   */
+  public static @Nullable SemVer parse(final String semVer) {
+    final int[] versionParts = parseVersionParts(semVer);
+    return versionParts == null
+        ? null
+        : new SemVer(versionParts[0], versionParts[1], versionParts[2]);
+  }
+
+  /**
+   * Gets the {@code major}, {@code minor} and {@code patch} version of the {@code semVer}, in that
+   * order.
+   *
+   * @param semVer to split.
+   * @return the version parts.
+   * @since 0.11.0
+   */
+  public static int[] versionParts(final SemVer semVer) {
+    final int[] versionParts = parseVersionParts(semVer.toCompleteVersionString());
+    if (versionParts == null) {
+      throw new IllegalStateException(
+          "SemVer `%s` is malformed".formatted(semVer.toCompleteVersionString()));
+    }
+    return versionParts;
+  }
+
+  private static int @Nullable [] parseVersionParts(final String semVer) {
+    final Matcher matcher = SEM_VER_PATTERN.matcher(semVer);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return new int[] {
+      Integer.parseInt(matcher.group(1)),
+      Integer.parseInt(matcher.group(2)),
+      Integer.parseInt(matcher.group(3))
+    };
+  }
+}
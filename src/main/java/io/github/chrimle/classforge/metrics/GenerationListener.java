@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.metrics;
+
+import org.apiguardian.api.API;
+
+/**
+ * Listener of <em>committed</em> classes, which receives the {@link GenerationMetrics} of each
+ * <em>commit</em>. Listeners are invoked synchronously, on the <em>committing</em> thread, after
+ * the class has been generated.
+ *
+ * <p><strong>Example: </strong> exporting the {@link GenerationMetrics} to a monitoring system, or
+ * aggregating them with {@link InMemoryMetricsAggregator}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+@FunctionalInterface
+public interface GenerationListener {
+
+  /**
+   * Invoked once a class has been <em>committed</em>.
+   *
+   * @param metrics of the <em>commit</em>.
+   * @since 0.11.0
+   */
+  void onCommit(final GenerationMetrics metrics);
+}
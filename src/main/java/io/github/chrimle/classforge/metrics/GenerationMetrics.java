@@ -0,0 +1,92 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.metrics;
+
+import io.github.chrimle.semver.SemVer;
+import org.apiguardian.api.API;
+
+/**
+ * Metrics of a <em>committed</em> class.
+ *
+ * @param fullyQualifiedClassName of the generated class.
+ * @param semVer of the generated class.
+ * @param validationNanos spent <em>validating</em> the class.
+ * @param renderNanos spent <em>rendering</em> the source code of the class.
+ * @param writeNanos spent <em>writing</em> the source code to the {@code .java} file.
+ * @param outputBytes of the source code, encoded as {@code UTF-8}.
+ * @param writeSkipped whether <em>writing</em> the {@code .java} file was skipped.
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public record GenerationMetrics(
+    String fullyQualifiedClassName,
+    SemVer semVer,
+    long validationNanos,
+    long renderNanos,
+    long writeNanos,
+    long outputBytes,
+    boolean writeSkipped) {
+
+  /**
+   * A <em>phase</em> of generating a class.
+   *
+   * @since 0.11.0
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  public enum Phase {
+    /**
+     * <em>Validating</em> the class.
+     *
+     * @since 0.11.0
+     */
+    VALIDATION,
+    /**
+     * <em>Rendering</em> the source code of the class.
+     *
+     * @since 0.11.0
+     */
+    RENDER,
+    /**
+     * <em>Writing</em> the source code to the {@code .java} file.
+     *
+     * @since 0.11.0
+     */
+    WRITE,
+    /**
+     * All phases combined.
+     *
+     * @since 0.11.0
+     */
+    TOTAL
+  }
+
+  /**
+   * Returns the nanoseconds spent in the {@code phase}.
+   *
+   * @param phase of generating the class.
+   * @return the nanoseconds.
+   * @since 0.11.0
+   */
+  public long nanos(final Phase phase) {
+    return switch (phase) {
+      case VALIDATION -> validationNanos;
+      case RENDER -> renderNanos;
+      case WRITE -> writeNanos;
+      case TOTAL -> validationNanos + renderNanos + writeNanos;
+    };
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.metrics;
+
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.metrics.GenerationMetrics.Phase;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apiguardian.api.API;
+
+/**
+ * {@link GenerationListener} which aggregates {@link GenerationMetrics} <em>in memory</em>, and
+ * reports <em>percentiles</em> of each {@link Phase}. At most {@value #MAX_SAMPLES}
+ * <em>commits</em> are retained as samples, via <em>reservoir sampling</em> - hence percentiles
+ * are exact up to {@value #MAX_SAMPLES} <em>commits</em>, and estimated from a uniform sample
+ * beyond that. The samples are retained until {@link #reset()}.
+ *
+ * <p>Thread-safe - a single instance <strong>MAY</strong> be shared by multiple {@code Builder}s.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class InMemoryMetricsAggregator implements GenerationListener {
+
+  /**
+   * The maximum number of <em>commits</em> retained as samples.
+   *
+   * @since 0.11.0
+   */
+  public static final int MAX_SAMPLES = 4096;
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final Map<Phase, long[]> samples = new EnumMap<>(Phase.class);
+  private long[] outputBytes = new long[INITIAL_CAPACITY];
+  private long count;
+  private long skippedWriteCount;
+
+  /**
+   * Constructor.
+   *
+   * @since 0.11.0
+   */
+  public InMemoryMetricsAggregator() {
+    for (final Phase phase : Phase.values()) {
+      samples.put(phase, new long[INITIAL_CAPACITY]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public synchronized void onCommit(final GenerationMetrics metrics) {
+    if (metrics.writeSkipped()) {
+      skippedWriteCount++;
+    }
+    final int index;
+    if (count < MAX_SAMPLES) {
+      if (count == outputBytes.length) {
+        final int capacity = (int) Math.min(count * 2, MAX_SAMPLES);
+        samples.replaceAll((phase, phaseSamples) -> Arrays.copyOf(phaseSamples, capacity));
+        outputBytes = Arrays.copyOf(outputBytes, capacity);
+      }
+      index = (int) count;
+    } else {
+      // Replaces a random sample with the probability of `MAX_SAMPLES / (count + 1)`
+      final long candidate = ThreadLocalRandom.current().nextLong(count + 1);
+      if (candidate >= MAX_SAMPLES) {
+        count++;
+        return;
+      }
+      index = (int) candidate;
+    }
+    for (final Phase phase : Phase.values()) {
+      samples.get(phase)[index] = metrics.nanos(phase);
+    }
+    outputBytes[index] = metrics.outputBytes();
+    count++;
+  }
+
+  /**
+   * Returns the number of aggregated <em>commits</em>.
+   *
+   * @return the count.
+   * @since 0.11.0
+   */
+  public synchronized long count() {
+    return count;
+  }
+
+  /**
+   * Returns the number of aggregated <em>commits</em> which skipped <em>writing</em>.
+   *
+   * @return the count.
+   * @since 0.11.0
+   */
+  public synchronized long skippedWriteCount() {
+    return skippedWriteCount;
+  }
+
+  /**
+   * Returns the <em>percentile</em> of the nanoseconds spent in the {@code phase}, using the
+   * <em>nearest-rank</em> method.
+   *
+   * @param phase of generating a class.
+   * @param percentile between {@code 0} (exclusive) and {@code 100} (inclusive).
+   * @return the nanoseconds, or {@code 0} if no <em>commits</em> have been aggregated.
+   * @throws IllegalArgumentException if {@code phase} is {@code null}.
+   * @throws IllegalArgumentException if {@code percentile} is not within {@code (0, 100]}.
+   * @since 0.11.0
+   */
+  @SuppressWarnings("ConstantValue")
+  public synchronized long percentileNanos(final Phase phase, final double percentile) {
+    if (phase == null) {
+      throw ExceptionFactory.nullException("phase");
+    }
+    return percentile(samples.get(phase), percentile);
+  }
+
+  /**
+   * Returns the <em>percentile</em> of the output bytes, using the <em>nearest-rank</em> method.
+   *
+   * @param percentile between {@code 0} (exclusive) and {@code 100} (inclusive).
+   * @return the output bytes, or {@code 0} if no <em>commits</em> have been aggregated.
+   * @throws IllegalArgumentException if {@code percentile} is not within {@code (0, 100]}.
+   * @since 0.11.0
+   */
+  public synchronized long percentileOutputBytes(final double percentile) {
+    return percentile(outputBytes, percentile);
+  }
+
+  /**
+   * Discards all aggregated <em>commits</em>, and releases the retained samples.
+   *
+   * @since 0.11.0
+   */
+  public synchronized void reset() {
+    count = 0;
+    skippedWriteCount = 0;
+    samples.replaceAll((phase, phaseSamples) -> new long[INITIAL_CAPACITY]);
+    outputBytes = new long[INITIAL_CAPACITY];
+  }
+
+  private long percentile(final long[] values, final double percentile) {
+    if (!(percentile > 0 && percentile <= 100)) {
+      throw ExceptionFactory.outOfRangeException("percentile", "(0, 100]");
+    }
+    if (count == 0) {
+      return 0;
+    }
+    final int sampleCount = (int) Math.min(count, MAX_SAMPLES);
+    final long[] sorted = Arrays.copyOf(values, sampleCount);
+    Arrays.sort(sorted);
+    return sorted[(int) Math.ceil(percentile / 100 * sampleCount) - 1];
+  }
+}
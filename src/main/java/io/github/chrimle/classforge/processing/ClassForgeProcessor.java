@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.processing;
+
+import io.github.chrimle.classforge.Builder;
+import io.github.chrimle.classforge.Builder.Feature;
+import io.github.chrimle.classforge.Builder.VersionFormat;
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import org.apiguardian.api.API;
+
+/**
+ * Generates the classes declared by {@link ForgeClass} and {@link ForgeEnum} annotations, and
+ * writes them via the {@link javax.annotation.processing.Filer} - hence compiled in the same
+ * {@code javac} invocation, without a separate build step.
+ *
+ * <p>Each generated source file originates from exactly one annotated type or package, hence the
+ * processor is <em>isolating</em> for incremental compilation. Declarations which fail validation
+ * are reported as compilation errors on the annotated element.
+ *
+ * <p>The processor is <strong>NOT</strong> registered as a service, hence it never runs merely
+ * because ClassForge is on the class path. It is enabled by adding ClassForge to the processor
+ * path, and naming the processor - e.g. via the {@code maven-compiler-plugin}:
+ *
+ * <pre>{@code
+ * <configuration>
+ *     <annotationProcessorPaths>
+ *         <path>
+ *             <groupId>io.github.chrimle</groupId>
+ *             <artifactId>class-forge</artifactId>
+ *             <version>${class-forge.version}</version>
+ *         </path>
+ *     </annotationProcessorPaths>
+ *     <annotationProcessors>
+ *         <annotationProcessor>
+ *             io.github.chrimle.classforge.processing.ClassForgeProcessor
+ *         </annotationProcessor>
+ *     </annotationProcessors>
+ * </configuration>
+ * }</pre>
+ *
+ * <p>Or, for {@code javac}: {@code -processorpath class-forge.jar -processor
+ * io.github.chrimle.classforge.processing.ClassForgeProcessor}.
+ *
+ * <p><strong>NOTE:</strong> each declaration is <em>committed</em> once, as version {@code 1.0.0}.
+ * Evolving classes across versions requires a {@link io.github.chrimle.classforge.Definition}.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+public final class ClassForgeProcessor extends AbstractProcessor {
+
+  /** Constructor. Invoked by {@code javac}, if named as a processor. */
+  public ClassForgeProcessor() {
+    super();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(
+        ForgeClass.class.getCanonicalName(),
+        ForgeClass.List.class.getCanonicalName(),
+        ForgeEnum.class.getCanonicalName(),
+        ForgeEnum.List.class.getCanonicalName());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+    final Set<? extends Element> elements =
+        roundEnvironment.getElementsAnnotatedWithAny(
+            Set.of(ForgeClass.class, ForgeClass.List.class, ForgeEnum.class, ForgeEnum.List.class));
+    for (final Element element : elements) {
+      for (final ForgeClass forgeClass : element.getAnnotationsByType(ForgeClass.class)) {
+        generate(
+            element,
+            ClassForge.newClassBuilder(),
+            forgeClass.packageName(),
+            forgeClass.className(),
+            new Feature[0],
+            forgeClass.versionPlacement(),
+            forgeClass.versionFormat());
+      }
+      for (final ForgeEnum forgeEnum : element.getAnnotationsByType(ForgeEnum.class)) {
+        final var enumBuilder = (EnumBuilder) ClassForge.newEnumBuilder();
+        if (forgeEnum.enumConstants().length > 0) {
+          try {
+            enumBuilder.addEnumConstants(forgeEnum.enumConstants());
+          } catch (final IllegalArgumentException e) {
+            reportError(element, forgeEnum.className(), e);
+            continue;
+          }
+        }
+        generate(
+            element,
+            enumBuilder,
+            forgeEnum.packageName(),
+            forgeEnum.className(),
+            forgeEnum.features(),
+            forgeEnum.versionPlacement(),
+            forgeEnum.versionFormat());
+      }
+    }
+    return true;
+  }
+
+  private void generate(
+      final Element element,
+      final Builder<?> builder,
+      final String packageName,
+      final String className,
+      final Feature[] features,
+      final VersionPlacement versionPlacement,
+      final VersionFormat versionFormat) {
+    try {
+      builder
+          .setOutputSink(new FilerOutputSink(processingEnv.getFiler(), element))
+          .setVersionPlacement(versionPlacement)
+          .setVersionFormat(versionFormat)
+          .updatePackageName(packageName)
+          .updateClassName(className);
+      if (features.length > 0) {
+        builder.enableFeatures(features);
+      }
+      builder.commit();
+    } catch (final RuntimeException e) {
+      reportError(element, className, e);
+    }
+  }
+
+  private void reportError(
+      final Element element, final String className, final RuntimeException exception) {
+    final Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+    processingEnv
+        .getMessager()
+        .printMessage(
+            Diagnostic.Kind.ERROR,
+            "Class `%s` could not be generated: %s".formatted(className, cause.getMessage()),
+            element);
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.processing;
+
+import io.github.chrimle.classforge.OutputSink;
+import java.io.IOException;
+import java.io.Writer;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+
+/**
+ * Writes <em>committed</em> classes as source files via the {@link Filer} of the current
+ * {@code javac} invocation, hence compiled in a subsequent round.
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ */
+final class FilerOutputSink implements OutputSink {
+
+  private final Filer filer;
+  private final Element originatingElement;
+
+  /**
+   * Constructor.
+   *
+   * @param filer of the current {@code javac} invocation.
+   * @param originatingElement declaring the classes - i.e. the annotated type or package.
+   */
+  FilerOutputSink(final Filer filer, final Element originatingElement) {
+    this.filer = filer;
+    this.originatingElement = originatingElement;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws RuntimeException if the source file could not be created - e.g. if it has already
+   *     been created in this {@code javac} invocation.
+   */
+  @Override
+  public boolean write(final String fullyQualifiedClassName, final String content) {
+    try (final Writer writer =
+        filer.createSourceFile(fullyQualifiedClassName, originatingElement).openWriter()) {
+      writer.write(content);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return true;
+  }
+}
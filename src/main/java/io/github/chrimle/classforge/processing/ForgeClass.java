@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.processing;
+
+import io.github.chrimle.classforge.Builder.VersionFormat;
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.apiguardian.api.API;
+
+/**
+ * Declares a Java {@code class} to generate by the {@link ClassForgeProcessor}, in the same
+ * {@code javac} invocation as the annotated type or package.
+ *
+ * <p><strong>Example</strong>
+ *
+ * <pre>{@code
+ * @ForgeClass(packageName = "io.github.chrimle.example", className = "Example")
+ * final class Definitions {}
+ * }</pre>
+ *
+ * @since 0.11.0
+ * @author Chrimle
+ * @see ForgeEnum
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+@Documented
+@Repeatable(ForgeClass.List.class)
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE, ElementType.PACKAGE})
+public @interface ForgeClass {
+
+  /**
+   * The {@code package}-name of the class.
+   *
+   * @return the {@code package}-name.
+   * @since 0.11.0
+   */
+  String packageName();
+
+  /**
+   * The name of the class.
+   *
+   * @return the class name.
+   * @since 0.11.0
+   */
+  String className();
+
+  /**
+   * The {@link VersionPlacement} of the class.
+   *
+   * @return the version placement.
+   * @since 0.11.0
+   */
+  VersionPlacement versionPlacement() default VersionPlacement.NONE;
+
+  /**
+   * The {@link VersionFormat} of the class.
+   *
+   * @return the version format.
+   * @since 0.11.0
+   */
+  VersionFormat versionFormat() default VersionFormat.COMPLETE;
+
+  /**
+   * Container of repeated {@link ForgeClass} declarations.
+   *
+   * @since 0.11.0
+   * @author Chrimle
+   */
+  @API(status = API.Status.EXPERIMENTAL, since = "0.11.0")
+  @Documented
+  @Retention(RetentionPolicy.SOURCE)
+  @Target({ElementType.TYPE, ElementType.PACKAGE})
+  @interface List {
+
+    /**
+     * The repeated declarations.
+     *
+     * @return the declarations.
+     * @since 0.11.0
+     */
+    ForgeClass[] value();
+  }
+}
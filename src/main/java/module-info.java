@@ -3,12 +3,17 @@
 module io.github.chrimle.classforge {
   exports io.github.chrimle.classforge;
   exports io.github.chrimle.classforge.classes;
+  exports io.github.chrimle.classforge.compiler;
+  exports io.github.chrimle.classforge.daemon;
   exports io.github.chrimle.classforge.enums;
+  exports io.github.chrimle.classforge.metrics;
+  exports io.github.chrimle.classforge.processing;
 
   // Requires (non-static)
   requires io.github.chrimle.exceptionfactory;
   requires io.github.chrimle.semver;
   requires java.compiler;
+  requires jdk.jfr;
 
   // Requires (static)
   requires static org.apiguardian.api;
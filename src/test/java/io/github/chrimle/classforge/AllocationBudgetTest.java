@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge.ClassType;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Allocation-budget regression tests of {@code commit()}. Measures the bytes allocated by the
+ * current thread per {@code commit()}, after warming up, and fails if the budget is exceeded. The
+ * source code is written to a discarding {@link OutputSink}, hence file I/O is not measured. The
+ * budgets are the measured baselines (roughly 2.6 KiB and 44 KiB) plus a margin for noise.
+ */
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class AllocationBudgetTest {
+
+  private static final int WARM_UP_COMMITS = 500;
+  private static final int MEASURED_COMMITS = 100;
+
+  private static final long CLASS_BUDGET_BYTES = 4 * 1024;
+  private static final long ENUM_BUDGET_BYTES = 64 * 1024;
+  private static final int ENUM_CONSTANT_COUNT = 100;
+
+  private static final OutputSink DISCARDING_OUTPUT_SINK =
+      (fullyQualifiedClassName, content) -> true;
+
+  private static com.sun.management.ThreadMXBean threadMXBean;
+
+  @BeforeAll
+  static void setUp() {
+    assumeTrue(
+        ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+        "Allocation measurements are not supported by this JVM");
+    threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    assumeTrue(
+        threadMXBean.isThreadAllocatedMemorySupported(),
+        "Allocation measurements are not supported by this JVM");
+    threadMXBean.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  private static long measureAllocatedBytesPerCommit(final Supplier<Builder<?>> builderSupplier) {
+    for (int i = 0; i < WARM_UP_COMMITS; i++) {
+      builderSupplier.get().commit();
+    }
+    final long threadId = Thread.currentThread().getId();
+    long allocatedBytes = 0;
+    for (int i = 0; i < MEASURED_COMMITS; i++) {
+      final Builder<?> builder = builderSupplier.get();
+      final long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+      builder.commit();
+      allocatedBytes += threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+    }
+    return allocatedBytes / MEASURED_COMMITS;
+  }
+
+  private static String[] enumConstantNames() {
+    final var enumConstantNames = new String[ENUM_CONSTANT_COUNT];
+    for (int i = 0; i < ENUM_CONSTANT_COUNT; i++) {
+      enumConstantNames[i] = "CONSTANT_" + i;
+    }
+    return enumConstantNames;
+  }
+
+  @Test
+  void testClassBuilderCommitAllocations() {
+    final long allocatedBytes =
+        measureAllocatedBytesPerCommit(
+            () ->
+                ClassForge.newBuilder(ClassType.CLASS)
+                    .setOutputSink(DISCARDING_OUTPUT_SINK)
+                    .updatePackageName(PACKAGE_NAME)
+                    .updateClassName("AllocationBudgetClass")
+                    .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX));
+    assertTrue(
+        allocatedBytes <= CLASS_BUDGET_BYTES,
+        "`ClassBuilder.commit()` allocated %d bytes, exceeding the budget of %d bytes"
+            .formatted(allocatedBytes, CLASS_BUDGET_BYTES));
+  }
+
+  @Test
+  void testEnumBuilderCommitAllocations() {
+    final String[] enumConstantNames = enumConstantNames();
+    final long allocatedBytes =
+        measureAllocatedBytesPerCommit(
+            () ->
+                ((EnumBuilder) ClassForge.newBuilder(ClassType.ENUM))
+                    .addEnumConstants(enumConstantNames)
+                    .setOutputSink(DISCARDING_OUTPUT_SINK)
+                    .updatePackageName(PACKAGE_NAME)
+                    .updateClassName("AllocationBudgetEnum")
+                    .setVersionPlacement(VersionPlacement.PACKAGE_NAME_SUFFIX));
+    assertTrue(
+        allocatedBytes <= ENUM_BUDGET_BYTES,
+        "`EnumBuilder.commit()` allocated %d bytes, exceeding the budget of %d bytes"
+            .formatted(allocatedBytes, ENUM_BUDGET_BYTES));
+  }
+}
@@ -19,17 +19,35 @@ import static io.github.chrimle.classforge.test.utils.TestConstants.DIRECTORY;
 import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.chrimle.classforge.Builder.Feature;
 import io.github.chrimle.classforge.Builder.VersionFormat;
 import io.github.chrimle.classforge.Builder.VersionPlacement;
 import io.github.chrimle.classforge.ClassForge.ClassType;
+import io.github.chrimle.classforge.ValidationResult.Rule;
+import io.github.chrimle.classforge.ValidationResult.Violation;
 import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.metrics.GenerationListener;
+import io.github.chrimle.classforge.metrics.GenerationMetrics;
+import io.github.chrimle.classforge.metrics.GenerationMetrics.Phase;
+import io.github.chrimle.classforge.metrics.InMemoryMetricsAggregator;
 import io.github.chrimle.classforge.test.utils.DynamicClassLoader;
 import io.github.chrimle.classforge.test.utils.JavaSourceCompiler;
 import io.github.chrimle.classforge.test.utils.TestConstants;
 import io.github.chrimle.semver.Change;
 import io.github.chrimle.semver.SemVer;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -38,6 +56,12 @@ import org.junit.jupiter.params.provider.ValueSource;
 @SuppressWarnings({"DataFlowIssue", "NullAway"})
 public class BuilderTests {
 
+  private static final List<String> FLIGHT_RECORDER_EVENT_NAMES =
+      List.of(
+          "io.github.chrimle.classforge.Validation",
+          "io.github.chrimle.classforge.Render",
+          "io.github.chrimle.classforge.Write");
+
   static <T extends AbstractBuilder<?>> T instantiateBuilder(final Class<T> builderClass) {
     if (builderClass == ClassBuilder.class) {
       return builderClass.cast(ClassForge.newBuilder(ClassType.CLASS));
@@ -48,6 +72,10 @@ public class BuilderTests {
     throw new UnsupportedOperationException();
   }
 
+  static Path classFile(final String className) {
+    return Path.of(DIRECTORY, PACKAGE_NAME.replace('.', '/'), className + ".java");
+  }
+
   static Class<?> compileAndLoadClass(final String className) throws Exception {
     compileClass(className);
     return loadClass(className);
@@ -250,6 +278,330 @@ public class BuilderTests {
               () -> instantiateBuilder(builderClass).commit((SemVer) null));
       assertEquals(ExceptionFactory.nullException("semVer").getMessage(), exception.getMessage());
     }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testGenerationListener(final Class<? extends AbstractBuilder<?>> builderClass)
+        throws IOException {
+      final String className = "GenerationListener" + builderClass.getSimpleName();
+      Files.deleteIfExists(classFile(className));
+      final List<GenerationMetrics> receivedMetrics = new ArrayList<>();
+      final GenerationListener removedListener =
+          metrics -> fail("Removed listener was invoked");
+      final var aggregator = new InMemoryMetricsAggregator();
+      instantiateBuilder(builderClass)
+          .addGenerationListener(receivedMetrics::add)
+          .addGenerationListener(aggregator)
+          .addGenerationListener(removedListener)
+          .removeGenerationListener(removedListener)
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .commit(new SemVer(1, 2, 3));
+
+      assertEquals(1, receivedMetrics.size());
+      final GenerationMetrics metrics = receivedMetrics.get(0);
+      assertEquals(PACKAGE_NAME + "." + className, metrics.fullyQualifiedClassName());
+      assertEquals(new SemVer(1, 2, 3), metrics.semVer());
+      assertTrue(metrics.validationNanos() > 0);
+      assertTrue(metrics.renderNanos() > 0);
+      assertTrue(metrics.writeNanos() > 0);
+      assertTrue(metrics.outputBytes() > 0);
+      assertFalse(metrics.writeSkipped());
+      assertEquals(1, aggregator.count());
+      assertEquals(metrics.nanos(Phase.TOTAL), aggregator.percentileNanos(Phase.TOTAL, 100));
+
+      // An unchanged file is not written again
+      instantiateBuilder(builderClass)
+          .addGenerationListener(aggregator)
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .commit(new SemVer(1, 2, 3));
+      assertEquals(2, aggregator.count());
+      assertEquals(1, aggregator.skippedWriteCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testSkippingCommitsWithoutChanges(
+        final Class<? extends AbstractBuilder<?>> builderClass) {
+      final String className = "SkippedCommit" + builderClass.getSimpleName();
+      final List<GenerationMetrics> receivedMetrics = new ArrayList<>();
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      assertTrue(abstractBuilder.hasUncommittedChanges());
+      abstractBuilder
+          .addGenerationListener(receivedMetrics::add)
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX)
+          .commit()
+          .commit();
+      assertFalse(abstractBuilder.hasUncommittedChanges());
+      assertEquals(1, receivedMetrics.size());
+      assertEquals(new SemVer(1, 0, 0), abstractBuilder.getSemVer());
+
+      // The directory is not part of the class, hence written again as the same version.
+      abstractBuilder.updateDirectory(DIRECTORY + "/relocated");
+      assertTrue(abstractBuilder.hasUncommittedChanges());
+      abstractBuilder.commit();
+      assertFalse(abstractBuilder.hasUncommittedChanges());
+      assertEquals(new SemVer(1, 0, 0), abstractBuilder.getSemVer());
+      assertTrue(
+          Files.isRegularFile(
+              Path.of(DIRECTORY, "relocated", PACKAGE_NAME.replace('.', '/'))
+                  .resolve(className + "V1_0_0.java")));
+      abstractBuilder.updateClassName(className + "Renamed").commit();
+      assertEquals(new SemVer(2, 0, 0), abstractBuilder.getSemVer());
+      assertEquals(3, receivedMetrics.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testRenderCache(final Class<? extends AbstractBuilder<?>> builderClass)
+        throws IOException {
+      final Path cacheDirectory = Files.createTempDirectory("class-forge-cache");
+      final String className = "RenderCache" + builderClass.getSimpleName();
+      final Path classFile = classFile(className);
+      instantiateBuilder(builderClass)
+          .enableRenderCache(cacheDirectory)
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .commit();
+      final Path cacheEntry;
+      try (final var files = Files.walk(cacheDirectory)) {
+        final List<Path> cacheEntries = files.filter(Files::isRegularFile).toList();
+        assertEquals(1, cacheEntries.size());
+        cacheEntry = cacheEntries.get(0);
+      }
+      assertEquals(Files.readString(classFile), Files.readString(cacheEntry));
+
+      // An identical class is read from the cache, instead of being rendered
+      Files.writeString(cacheEntry, "// Cached");
+      instantiateBuilder(builderClass)
+          .enableRenderCache(cacheDirectory)
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .commit();
+      assertEquals("// Cached", Files.readString(classFile));
+
+      instantiateBuilder(builderClass)
+          .enableRenderCache(cacheDirectory)
+          .disableRenderCache()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .commit();
+      assertNotEquals("// Cached", Files.readString(classFile));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testOutputSink(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final String className = "OutputSink" + builderClass.getSimpleName();
+      final List<String> writtenClassNames = new ArrayList<>();
+      final var abstractBuilder =
+          instantiateBuilder(builderClass)
+              .setOutputSink(
+                  (fullyQualifiedClassName, content) -> {
+                    assertTrue(content.contains(className));
+                    return writtenClassNames.add(fullyQualifiedClassName);
+                  })
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName(className);
+      assertTrue(abstractBuilder.validate().isValid());
+      abstractBuilder.commit();
+      assertEquals(List.of(PACKAGE_NAME + "." + className), writtenClassNames);
+      assertFalse(Files.exists(classFile(className)));
+
+      final var exception =
+          assertThrows(IllegalArgumentException.class, () -> abstractBuilder.setOutputSink(null));
+      assertEquals(
+          ExceptionFactory.nullException("outputSink").getMessage(), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testClassFileSink(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final String className = "ClassFileSink" + builderClass.getSimpleName();
+      final Map<String, byte[]> classFiles = new LinkedHashMap<>();
+      final var abstractBuilder =
+          instantiateBuilder(builderClass)
+              .setClassFileSink(
+                  (fullyQualifiedClassName, classFile) ->
+                      classFiles.put(fullyQualifiedClassName, classFile) == null)
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName(className);
+      assertTrue(abstractBuilder.validate().isValid());
+      abstractBuilder.commit();
+      final byte[] classFile = classFiles.get(PACKAGE_NAME + "." + className);
+      assertEquals(0xCAFEBABE, ByteBuffer.wrap(classFile).getInt());
+      assertFalse(Files.exists(classFile(className)));
+
+      final var featureBuilder =
+          EnumBuilder.newClass()
+              .setClassFileSink(
+                  (fullyQualifiedClassName, featureClassFile) ->
+                      classFiles.put(fullyQualifiedClassName, featureClassFile) == null)
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName(className + "WithFeatures")
+              .enableFeatures(Feature.JSON_CODEC);
+      final var featureException =
+          assertThrows(IllegalStateException.class, featureBuilder::commit);
+      assertEquals(
+          "Class `%s.%sWithFeatures` cannot be emitted as bytecode, as features are enabled!"
+              .formatted(PACKAGE_NAME, className),
+          featureException.getMessage());
+      assertEquals(1, classFiles.size());
+
+      final var nullException =
+          assertThrows(
+              IllegalArgumentException.class, () -> abstractBuilder.setClassFileSink(null));
+      assertEquals(
+          ExceptionFactory.nullException("classFileSink").getMessage(), nullException.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testNullRenderCache(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class, () -> abstractBuilder.enableRenderCache(null));
+      assertEquals(
+          ExceptionFactory.nullException("cacheDirectory").getMessage(), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testNullGenerationListener(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class, () -> abstractBuilder.addGenerationListener(null));
+      assertEquals(
+          ExceptionFactory.nullException("generationListener").getMessage(),
+          exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testFlightRecorderEvents(final Class<? extends AbstractBuilder<?>> builderClass)
+        throws IOException {
+      final String className = "FlightRecorder" + builderClass.getSimpleName();
+      Files.deleteIfExists(classFile(className));
+      final Path recordingFile = Files.createTempFile("class-forge", ".jfr");
+      try (final var recording = new Recording()) {
+        for (final String eventName : FLIGHT_RECORDER_EVENT_NAMES) {
+          recording.enable(eventName).withThreshold(Duration.ZERO);
+        }
+        recording.start();
+        instantiateBuilder(builderClass)
+            .updateDirectory(DIRECTORY)
+            .updatePackageName(PACKAGE_NAME)
+            .updateClassName(className)
+            .commit(new SemVer(1, 2, 3));
+        recording.stop();
+        recording.dump(recordingFile);
+      }
+
+      final String fullyQualifiedClassName = PACKAGE_NAME + "." + className;
+      final List<RecordedEvent> events =
+          RecordingFile.readAllEvents(recordingFile).stream()
+              .filter(
+                  event ->
+                      fullyQualifiedClassName.equals(event.getString("fullyQualifiedClassName")))
+              .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+              .toList();
+      Files.deleteIfExists(recordingFile);
+
+      assertEquals(
+          FLIGHT_RECORDER_EVENT_NAMES,
+          events.stream().map(event -> event.getEventType().getName()).toList());
+      for (final RecordedEvent event : events) {
+        assertEquals(new SemVer(1, 2, 3).toCompleteVersionString(), event.getString("semVer"));
+      }
+      assertEquals(
+          builderClass == EnumBuilder.class ? "enum.jte" : "class.jte",
+          events.get(1).getString("template"));
+      assertTrue(events.get(1).getLong("bytes") > 0);
+      assertEquals(events.get(1).getLong("bytes"), events.get(2).getLong("bytes"));
+    }
+  }
+
+  @Nested
+  class ValidateTests {
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testValidBuilder(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var validationResult =
+          instantiateBuilder(builderClass)
+              .updateDirectory(DIRECTORY)
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName("ValidClass")
+              .validate();
+      assertTrue(validationResult.isValid());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testAllViolationsAreReturned(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      final var validationResult = abstractBuilder.validate();
+      assertEquals(
+          List.of(
+              new Violation(Rule.NOT_NULL, "directory", null, -1),
+              new Violation(Rule.VALID_CLASS_NAME, "className", null, -1)),
+          validationResult.violations());
+
+      final var commitException =
+          assertThrows(IllegalArgumentException.class, abstractBuilder::commit);
+      assertEquals(
+          validationResult.violations().get(0).toException().getMessage(),
+          commitException.getMessage());
+    }
+  }
+
+  @Nested
+  class FeatureTests {
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testNullFeatures(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> abstractBuilder.enableFeatures((Feature[]) null));
+      assertEquals(
+          ExceptionFactory.nullOrEmptyException("features").getMessage(), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testEmptyFeatures(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      final var exception =
+          assertThrows(IllegalArgumentException.class, abstractBuilder::disableFeatures);
+      assertEquals(
+          ExceptionFactory.nullOrEmptyException("features").getMessage(), exception.getMessage());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {ClassBuilder.class, EnumBuilder.class})
+    void testNullFeature(final Class<? extends AbstractBuilder<?>> builderClass) {
+      final var abstractBuilder = instantiateBuilder(builderClass);
+      final var exception =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> abstractBuilder.enableFeatures(Feature.JSON_CODEC, null));
+      assertEquals(
+          ExceptionFactory.nullOrEmptyException("features").getMessage(), exception.getMessage());
+    }
   }
 
   @Nested
@@ -296,12 +648,13 @@ public class BuilderTests {
             .updatePackageName(TestConstants.PACKAGE_NAME)
             .updateClassName(className)
             .commit() // Version 1.0.0
-            .commit() // Version 2.0.0
-            .commit(); // Version 3.0.0
+            .commit() // No changes
+            .commit(Change.MINOR) // Version 1.1.0
+            .commit(Change.MAJOR); // Version 2.0.0
 
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v1_0_0", className));
+        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v1_1_0", className));
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v2_0_0", className));
-        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v3_0_0", className));
       }
 
       @ParameterizedTest
@@ -380,12 +733,13 @@ public class BuilderTests {
             .updatePackageName(TestConstants.PACKAGE_NAME)
             .updateClassName(className)
             .commit() // Version 1.0.0
-            .commit() // Version 2.0.0
-            .commit(); // Version 3.0.0
+            .commit() // No changes
+            .commit(Change.MINOR) // Version 1.1.0
+            .commit(Change.MAJOR); // Version 2.0.0
 
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v1", className));
+        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v1_1", className));
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v2", className));
-        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME + ".v3", className));
       }
 
       @ParameterizedTest
@@ -464,12 +818,13 @@ public class BuilderTests {
             .updatePackageName(TestConstants.PACKAGE_NAME)
             .updateClassName(className)
             .commit() // Version 1.0.0
-            .commit() // Version 2.0.0
-            .commit(); // Version 3.0.0
+            .commit() // No changes
+            .commit(Change.MINOR) // Version 1.1.0
+            .commit(Change.MAJOR); // Version 2.0.0
 
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V1_0_0"));
+        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V1_1_0"));
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V2_0_0"));
-        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V3_0_0"));
       }
 
       @ParameterizedTest
@@ -548,12 +903,13 @@ public class BuilderTests {
             .updatePackageName(TestConstants.PACKAGE_NAME)
             .updateClassName(className)
             .commit() // Version 1.0.0
-            .commit() // Version 2.0.0
-            .commit(); // Version 3.0.0
+            .commit() // No changes
+            .commit(Change.MINOR) // Version 1.1.0
+            .commit(Change.MAJOR); // Version 2.0.0
 
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V1"));
+        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V1_1"));
         assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V2"));
-        assertNotNull(compileAndLoadClass(TestConstants.PACKAGE_NAME, className + "V3"));
       }
 
       @ParameterizedTest
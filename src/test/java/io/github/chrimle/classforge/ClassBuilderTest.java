@@ -17,10 +17,13 @@ package io.github.chrimle.classforge;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.chrimle.classforge.Builder.Feature;
 import io.github.chrimle.classforge.internal.ExceptionFactory;
 import io.github.chrimle.classforge.test.utils.DynamicClassLoader;
 import io.github.chrimle.classforge.test.utils.JavaSourceCompiler;
 import io.github.chrimle.classforge.test.utils.TestConstants;
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.stream.Stream;
@@ -96,8 +99,12 @@ class ClassBuilderTest {
                     .updateClassName(className));
 
     assertDoesNotThrow(() -> classBuilder.commit());
+    assertFalse(classBuilder.hasUncommittedChanges());
+    assertDoesNotThrow(() -> classBuilder.commit());
+    assertEquals(new SemVer(1, 0, 0), classBuilder.getSemVer());
 
-    final var exception = assertThrows(IllegalStateException.class, classBuilder::commit);
+    final var exception =
+        assertThrows(IllegalStateException.class, () -> classBuilder.commit(Change.MAJOR));
     assertEquals(
         "Class `%s.%s` has already been generated!"
             .formatted(TestConstants.PACKAGE_NAME, className),
@@ -170,4 +177,15 @@ class ClassBuilderTest {
           exception.getMessage());
     }
   }
+
+  @ParameterizedTest
+  @EnumSource(Feature.class)
+  void testUnsupportedFeatures(final Feature feature) {
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class, () -> ClassBuilder.newClass().enableFeatures(feature));
+    assertEquals(
+        ExceptionFactory.notSupportedException("feature", feature.name()).getMessage(),
+        exception.getMessage());
+  }
 }
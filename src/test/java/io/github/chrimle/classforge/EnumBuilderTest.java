@@ -18,11 +18,25 @@ package io.github.chrimle.classforge;
 import static io.github.chrimle.classforge.test.utils.TestConstants.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import io.github.chrimle.classforge.Builder.Feature;
+import io.github.chrimle.classforge.ValidationResult.Rule;
+import io.github.chrimle.classforge.ValidationResult.Violation;
 import io.github.chrimle.classforge.internal.ExceptionFactory;
 import io.github.chrimle.classforge.test.utils.DynamicClassLoader;
 import io.github.chrimle.classforge.test.utils.JavaSourceCompiler;
 import io.github.chrimle.classforge.test.utils.TestConstants;
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -98,14 +112,35 @@ class EnumBuilderTest {
                     .updateClassName(className));
 
     assertDoesNotThrow(() -> classBuilder.commit());
+    assertFalse(classBuilder.hasUncommittedChanges());
+    assertDoesNotThrow(() -> classBuilder.commit());
+    assertEquals(new SemVer(1, 0, 0), classBuilder.getSemVer());
 
-    final var exception = assertThrows(IllegalStateException.class, classBuilder::commit);
+    final var exception =
+        assertThrows(IllegalStateException.class, () -> classBuilder.commit(Change.MAJOR));
     assertEquals(
         "Class `%s.%s` has already been generated!"
             .formatted(TestConstants.PACKAGE_NAME, className),
         exception.getMessage());
   }
 
+  @Test
+  void testDeterminingChangeOfFeatures() {
+    final var enumBuilder =
+        EnumBuilder.newClass()
+            .updateDirectory(TestConstants.DIRECTORY)
+            .updatePackageName(TestConstants.PACKAGE_NAME)
+            .updateClassName("EnumClassWithChangedFeatures")
+            .setVersionPlacement(Builder.VersionPlacement.CLASS_NAME_SUFFIX)
+            .commit();
+    assertEquals(new SemVer(1, 0, 0), enumBuilder.getSemVer());
+
+    enumBuilder.enableFeatures(Feature.JSON_CODEC).commit();
+    assertEquals(new SemVer(1, 1, 0), enumBuilder.getSemVer());
+    enumBuilder.disableFeatures(Feature.JSON_CODEC).commit();
+    assertEquals(new SemVer(2, 0, 0), enumBuilder.getSemVer());
+  }
+
   @Test
   void testRenamingCommittedClass() throws Exception {
     EnumBuilder.newClass()
@@ -459,4 +494,448 @@ class EnumBuilderTest {
       }
     }
   }
+
+  @Nested
+  class ValidateEnumConstantsTests {
+
+    @Test
+    void testValidEnumConstantNames() {
+      final var validationResult =
+          EnumBuilder.newClass().validateEnumConstants("FIRST", "SECOND", "_THIRD");
+      assertTrue(validationResult.isValid());
+      assertDoesNotThrow(validationResult::throwIfInvalid);
+    }
+
+    @Test
+    void testNullEnumConstantNames() {
+      final var validationResult = EnumBuilder.newClass().validateEnumConstants("FIRST", null);
+      assertEquals(
+          List.of(new Violation(Rule.NOT_NULL_OR_EMPTY, "enumConstantNames", null, -1)),
+          validationResult.violations());
+    }
+
+    @Test
+    void testAllViolationsAreReturned() {
+      final var enumBuilder = EnumBuilder.newClass().addEnumConstants("EXISTING");
+      final var validationResult =
+          enumBuilder.validateEnumConstants(
+              "VALID", "1_INVALID", "EXISTING", "class", "VALID", "ALSO_VALID", "-");
+      assertFalse(validationResult.isValid());
+      assertEquals(
+          List.of(
+              new Violation(Rule.NOT_DUPLICATE, "enumConstantNames", "VALID", 4),
+              new Violation(Rule.VALID_ENUM_CONSTANT_NAME, "enumConstantName", "1_INVALID", 1),
+              new Violation(Rule.NOT_EXISTING, "enumConstantName", "EXISTING", 2),
+              new Violation(Rule.NOT_RESERVED_KEYWORD, "enumConstantName", "class", 3),
+              new Violation(Rule.VALID_ENUM_CONSTANT_NAME, "enumConstantName", "-", 6)),
+          validationResult.violations());
+    }
+
+    @Test
+    void testFirstViolationIsThrownByAddEnumConstants() {
+      final var enumBuilder = EnumBuilder.newClass();
+      final var validationResult = enumBuilder.validateEnumConstants("VALID", "1_INVALID", "-");
+      final var expected =
+          assertThrows(IllegalArgumentException.class, validationResult::throwIfInvalid);
+      final var actual =
+          assertThrows(
+              IllegalArgumentException.class,
+              () -> enumBuilder.addEnumConstants("VALID", "1_INVALID", "-"));
+      assertEquals(expected.getMessage(), actual.getMessage());
+    }
+
+    @Test
+    void testLargeImport() {
+      final var enumConstantNames = new String[100_000];
+      for (int i = 0; i < enumConstantNames.length; i++) {
+        enumConstantNames[i] = i % 1000 == 0 ? "INVALID-" + i : "CONSTANT_" + i;
+      }
+      final var validationResult = EnumBuilder.newClass().validateEnumConstants(enumConstantNames);
+      assertEquals(100, validationResult.violations().size());
+    }
+  }
+
+  @Nested
+  class SemVerChangeTests {
+
+    private static EnumBuilder committedEnumBuilder(final String className) {
+      return EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName(className)
+          .setVersionPlacement(Builder.VersionPlacement.CLASS_NAME_SUFFIX)
+          .addEnumConstants("FIRST", "SECOND")
+          .commit();
+    }
+
+    @Test
+    void testAddingEnumConstantIsMinorChange() {
+      final var enumBuilder = committedEnumBuilder("EnumWithAddedConstant");
+      assertFalse(enumBuilder.hasUncommittedChanges());
+      enumBuilder.addEnumConstants("THIRD").commit();
+      assertEquals(new SemVer(1, 1, 0), enumBuilder.getSemVer());
+    }
+
+    @Test
+    void testRemovingEnumConstantIsMajorChange() {
+      final var enumBuilder = committedEnumBuilder("EnumWithRemovedConstant");
+      enumBuilder.addEnumConstants("THIRD").removeEnumConstants("FIRST").commit();
+      assertEquals(new SemVer(2, 0, 0), enumBuilder.getSemVer());
+    }
+
+    @Test
+    void testRenamingEnumConstantIsMajorChange() {
+      final var enumBuilder = committedEnumBuilder("EnumWithRenamedConstant");
+      enumBuilder.updateEnumConstant("FIRST", "NEW").commit();
+      assertEquals(new SemVer(2, 0, 0), enumBuilder.getSemVer());
+    }
+
+    @Test
+    void testReorderingEnumConstantsIsMajorChange() {
+      final var enumBuilder = committedEnumBuilder("EnumWithReorderedConstants");
+      enumBuilder.removeEnumConstants("FIRST").addEnumConstants("FIRST");
+      assertTrue(enumBuilder.hasUncommittedChanges());
+      enumBuilder.commit();
+      assertEquals(new SemVer(2, 0, 0), enumBuilder.getSemVer());
+    }
+
+    @Test
+    void testRevertedChangesAreNotCommitted() {
+      final var enumBuilder = committedEnumBuilder("EnumWithRevertedConstant");
+      enumBuilder.addEnumConstants("THIRD").removeEnumConstants("THIRD");
+      assertFalse(enumBuilder.hasUncommittedChanges());
+      enumBuilder.commit();
+      assertEquals(new SemVer(1, 0, 0), enumBuilder.getSemVer());
+    }
+  }
+
+  @Nested
+  class JsonCodecTests {
+
+    static String writeJson(final Object enumConstant) throws Exception {
+      final var outputStream = new ByteArrayOutputStream();
+      enumConstant
+          .getClass()
+          .getMethod("writeJson", OutputStream.class)
+          .invoke(enumConstant, outputStream);
+      return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    static Object readJson(final Class<?> enumClass, final String json) throws Exception {
+      return enumClass
+          .getMethod("readJson", InputStream.class)
+          .invoke(null, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testWritingAndReading() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithJsonCodec")
+          .enableFeatures(Feature.JSON_CODEC)
+          .addEnumConstants("FIRST", "SECOND")
+          .commit();
+
+      final var enumClass = compileAndLoadClass(PACKAGE_NAME, "EnumWithJsonCodec");
+      for (final Object enumConstant : enumClass.getEnumConstants()) {
+        final String json = writeJson(enumConstant);
+        assertEquals("\"" + ((Enum<?>) enumConstant).name() + "\"", json);
+        assertEquals(enumConstant, readJson(enumClass, json));
+      }
+      assertNull(readJson(enumClass, " null"));
+    }
+
+    @Test
+    void testReadingPreviousNames() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithRenamedJsonCodec")
+          .setVersionPlacement(Builder.VersionPlacement.CLASS_NAME_SUFFIX)
+          .enableFeatures(Feature.JSON_CODEC)
+          .addEnumConstants("OLD", "KEPT", "UNCOMMITTED")
+          .updateEnumConstant("UNCOMMITTED", "ORIGINAL")
+          .commit() // Version 1.0.0
+          .updateEnumConstant("OLD", "NEW")
+          .commit(); // Version 2.0.0
+
+      final var enumClass = compileAndLoadClass(PACKAGE_NAME, "EnumWithRenamedJsonCodecV2_0_0");
+      final var newConstant = readJson(enumClass, "\"NEW\"");
+      assertEquals("NEW", ((Enum<?>) newConstant).name());
+      assertEquals(newConstant, readJson(enumClass, "\"OLD\""));
+      assertEquals(newConstant, readJson(enumClass, "\"\\u004FLD\""));
+      assertEquals("\"NEW\"", writeJson(newConstant));
+      assertEquals("KEPT", ((Enum<?>) readJson(enumClass, "\"KEPT\"")).name());
+
+      final var exception =
+          assertThrows(Exception.class, () -> readJson(enumClass, "\"UNCOMMITTED\""));
+      assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    void testReadingInvalidJson() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithInvalidJsonCodec")
+          .enableFeatures(Feature.JSON_CODEC)
+          .addEnumConstants("VALUE")
+          .commit();
+
+      final var enumClass = compileAndLoadClass(PACKAGE_NAME, "EnumWithInvalidJsonCodec");
+      for (final String json : List.of("\"OTHER\"", "VALUE", "{}", "\"VALUE")) {
+        assertThrows(Exception.class, () -> readJson(enumClass, json), json);
+      }
+    }
+
+    @Test
+    void testReadingEscapesAndTruncatedJson() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithEscapedJsonCodec")
+          .enableFeatures(Feature.JSON_CODEC)
+          .addEnumConstants("FIRST", "SECOND")
+          .commit();
+
+      final var enumClass = compileAndLoadClass(PACKAGE_NAME, "EnumWithEscapedJsonCodec");
+      final var first = enumClass.getEnumConstants()[0];
+      assertEquals(first, readJson(enumClass, "\"\\u0046IRST\""));
+      assertEquals(first, readJson(enumClass, "\"FIRS\\u0054\""));
+      assertEquals(first, readJson(enumClass, "\"\\u0046\\u0049\\u0052\\u0053\\u0054\""));
+      final var invalidEscape =
+          assertThrows(Exception.class, () -> readJson(enumClass, "\"\\u00G6IRST\""));
+      assertInstanceOf(IllegalArgumentException.class, invalidEscape.getCause());
+
+      for (final String json :
+          List.of("", " ", "nu", "\"", "\"FIRST", "\"FIRST\\", "\"\\u00", "\"\\u0046")) {
+        final var exception = assertThrows(Exception.class, () -> readJson(enumClass, json), json);
+        assertInstanceOf(EOFException.class, exception.getCause(), json);
+      }
+    }
+  }
+
+  @Nested
+  class BinaryCodecTests {
+
+    static ByteBuffer writeBinary(final Object enumConstant) throws Exception {
+      final var buffer = ByteBuffer.allocate(64);
+      enumConstant
+          .getClass()
+          .getMethod("writeBinary", ByteBuffer.class)
+          .invoke(enumConstant, buffer);
+      return buffer.flip();
+    }
+
+    static Object readBinary(final Class<?> enumClass, final ByteBuffer buffer) throws Exception {
+      return enumClass.getMethod("readBinary", ByteBuffer.class).invoke(null, buffer);
+    }
+
+    @Test
+    void testWritingAndReading() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithBinaryCodec")
+          .enableFeatures(Feature.BINARY_CODEC)
+          .addEnumConstants("FIRST", "SECOND")
+          .commit(Change.MINOR);
+
+      final var enumClass = compileAndLoadClass(PACKAGE_NAME, "EnumWithBinaryCodec");
+      for (final Object enumConstant : enumClass.getEnumConstants()) {
+        final var buffer = writeBinary(enumConstant);
+        assertEquals(4, buffer.remaining());
+        assertEquals(0, buffer.get(0));
+        assertEquals(1, buffer.get(1));
+        assertEquals(0, buffer.get(2));
+        assertEquals(((Enum<?>) enumConstant).ordinal(), buffer.get(3));
+        assertEquals(enumConstant, readBinary(enumClass, buffer));
+        assertFalse(buffer.hasRemaining());
+      }
+    }
+
+    @Test
+    void testReadingPreviousVersions() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithVersionedBinaryCodec")
+          .setVersionPlacement(Builder.VersionPlacement.CLASS_NAME_SUFFIX)
+          .enableFeatures(Feature.BINARY_CODEC)
+          .addEnumConstants("REMOVED", "RENAMED", "KEPT")
+          .commit() // Version 1.0.0
+          .removeEnumConstants("REMOVED")
+          .updateEnumConstant("RENAMED", "NEW_NAME")
+          .addEnumConstants("ADDED")
+          .commit(); // Version 2.0.0
+
+      final var oldEnumClass =
+          compileAndLoadClass(PACKAGE_NAME, "EnumWithVersionedBinaryCodecV1_0_0");
+      final var newEnumClass =
+          compileAndLoadClass(PACKAGE_NAME, "EnumWithVersionedBinaryCodecV2_0_0");
+      final var oldConstants = oldEnumClass.getEnumConstants();
+
+      assertEquals(
+          "NEW_NAME", ((Enum<?>) readBinary(newEnumClass, writeBinary(oldConstants[1]))).name());
+      assertEquals(
+          "KEPT", ((Enum<?>) readBinary(newEnumClass, writeBinary(oldConstants[2]))).name());
+      final var exception =
+          assertThrows(
+              Exception.class, () -> readBinary(newEnumClass, writeBinary(oldConstants[0])));
+      assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+
+      final var addedConstant = newEnumClass.getEnumConstants()[2];
+      assertEquals("ADDED", ((Enum<?>) addedConstant).name());
+      assertEquals(addedConstant, readBinary(newEnumClass, writeBinary(addedConstant)));
+
+      // Payloads of a newer major version are rejected, even if the wire ID is known.
+      final var newerException =
+          assertThrows(
+              Exception.class,
+              () -> readBinary(oldEnumClass, writeBinary(newEnumClass.getEnumConstants()[1])));
+      assertInstanceOf(IllegalArgumentException.class, newerException.getCause());
+      assertEquals(
+          "Incompatible version 2.0.0, expected major version 1 or older",
+          newerException.getCause().getMessage());
+    }
+
+    @Test
+    void testReAddingRemovedConstantBeforeCommitting() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithReAddedBinaryCodec")
+          .setVersionPlacement(Builder.VersionPlacement.CLASS_NAME_SUFFIX)
+          .enableFeatures(Feature.BINARY_CODEC)
+          .addEnumConstants("FIRST", "SECOND")
+          .commit() // Version 1.0.0
+          .removeEnumConstants("FIRST")
+          .addEnumConstants("THIRD", "FIRST")
+          .commit(); // Version 2.0.0, as `FIRST` is reordered
+
+      final var oldEnumClass =
+          compileAndLoadClass(PACKAGE_NAME, "EnumWithReAddedBinaryCodecV1_0_0");
+      final var newEnumClass =
+          compileAndLoadClass(PACKAGE_NAME, "EnumWithReAddedBinaryCodecV2_0_0");
+      for (final Object oldConstant : oldEnumClass.getEnumConstants()) {
+        assertEquals(
+            ((Enum<?>) oldConstant).name(),
+            ((Enum<?>) readBinary(newEnumClass, writeBinary(oldConstant))).name());
+      }
+      final var thirdConstant = newEnumClass.getEnumConstants()[1];
+      assertEquals("THIRD", ((Enum<?>) thirdConstant).name());
+      assertEquals(thirdConstant, readBinary(newEnumClass, writeBinary(thirdConstant)));
+    }
+  }
+
+  @Nested
+  class FlyweightTests {
+
+    @Test
+    void testReadingAndWritingAtOffsets() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithFlyweight")
+          .enableFeatures(Feature.FLYWEIGHT, Feature.BINARY_CODEC)
+          .addEnumConstants("FIRST", "SECOND", "THIRD")
+          .commit();
+
+      final var enumClass = compileAndLoadClass(PACKAGE_NAME, "EnumWithFlyweight");
+      assertEquals(1, enumClass.getField("FLYWEIGHT_BYTES").getInt(null));
+      final var getAt = enumClass.getMethod("getAt", ByteBuffer.class, int.class);
+      final var putAt = enumClass.getMethod("putAt", ByteBuffer.class, int.class);
+
+      final var buffer = ByteBuffer.allocateDirect(8);
+      final var enumConstants = enumClass.getEnumConstants();
+      for (int i = 0; i < enumConstants.length; i++) {
+        putAt.invoke(enumConstants[i], buffer, i * 2);
+      }
+      for (int i = 0; i < enumConstants.length; i++) {
+        assertEquals(i, buffer.get(i * 2));
+        assertSame(enumConstants[i], getAt.invoke(null, buffer, i * 2));
+      }
+
+      buffer.put(7, (byte) 42);
+      final var exception = assertThrows(Exception.class, () -> getAt.invoke(null, buffer, 7));
+      assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    void testKeepingWidthAcrossVersions() throws Exception {
+      final String[] addedConstants = new String[300];
+      Arrays.setAll(addedConstants, i -> "ADDED_" + i);
+      final var enumBuilder =
+          EnumBuilder.newClass()
+              .updateDirectory(DIRECTORY)
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName("EnumWithWidenedFlyweight")
+              .setVersionPlacement(Builder.VersionPlacement.CLASS_NAME_SUFFIX)
+              .enableFeatures(Feature.FLYWEIGHT)
+              .addEnumConstants("FIRST", "SECOND", "THIRD")
+              .commit() // Version 1.0.0
+              .addEnumConstants(addedConstants)
+              .commit(); // Version 2.0.0
+      assertEquals(new SemVer(2, 0, 0), enumBuilder.getSemVer());
+      enumBuilder.removeEnumConstants(addedConstants).addEnumConstants("FOURTH").commit();
+      assertEquals(new SemVer(3, 0, 0), enumBuilder.getSemVer());
+
+      assertEquals(
+          Byte.BYTES,
+          compileAndLoadClass(PACKAGE_NAME, "EnumWithWidenedFlyweightV1_0_0")
+              .getField("FLYWEIGHT_BYTES")
+              .getInt(null));
+      for (final String className :
+          List.of("EnumWithWidenedFlyweightV2_0_0", "EnumWithWidenedFlyweightV3_0_0")) {
+        assertEquals(
+            Short.BYTES,
+            compileAndLoadClass(PACKAGE_NAME, className).getField("FLYWEIGHT_BYTES").getInt(null));
+      }
+    }
+  }
+
+  @Nested
+  class BatchTests {
+
+    @Test
+    void testAppendingAndIterating() throws Exception {
+      EnumBuilder.newClass()
+          .updateDirectory(DIRECTORY)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("EnumWithBatch")
+          .enableFeatures(Feature.BATCH)
+          .addEnumConstants("FIRST", "SECOND", "THIRD")
+          .commit();
+
+      compileClass(PACKAGE_NAME + ".EnumWithBatch");
+      // The nested batch class is loaded lazily, hence the class loader must remain open.
+      try (final var classLoader =
+          new URLClassLoader(new URL[] {Path.of(DIRECTORY).toUri().toURL()})) {
+        final var enumClass = classLoader.loadClass(PACKAGE_NAME + ".EnumWithBatch");
+        final var batchClass =
+            classLoader.loadClass(PACKAGE_NAME + ".EnumWithBatch$EnumWithBatchBatch");
+        final var batch = batchClass.getConstructor(int.class).newInstance(1);
+        final var append = batchClass.getMethod("append", enumClass);
+        final var get = batchClass.getMethod("get", int.class);
+        final var enumConstants = enumClass.getEnumConstants();
+        for (int i = 0; i < 100; i++) {
+          append.invoke(batch, enumConstants[i % enumConstants.length]);
+        }
+
+        assertEquals(100, batchClass.getMethod("size").invoke(batch));
+        int index = 0;
+        for (final Object enumConstant : (Iterable<?>) batch) {
+          assertSame(enumConstants[index % enumConstants.length], enumConstant);
+          assertSame(enumConstant, get.invoke(batch, index));
+          index++;
+        }
+        assertEquals(100, index);
+        assertEquals(100, ((Object[]) batchClass.getMethod("toArray").invoke(batch)).length);
+
+        final var exception = assertThrows(Exception.class, () -> get.invoke(batch, 100));
+        assertInstanceOf(IndexOutOfBoundsException.class, exception.getCause());
+      }
+    }
+  }
 }
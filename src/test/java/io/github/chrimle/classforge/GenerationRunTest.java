@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge.ClassType;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.internal.Journal;
+import io.github.chrimle.semver.Change;
+import io.github.chrimle.semver.SemVer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class GenerationRunTest {
+
+  private static Path classFile(final Path root, final String className) {
+    return root.resolve(PACKAGE_NAME.replace('.', '/')).resolve(className + ".java");
+  }
+
+  @Test
+  void testPruningStaleOutputs() throws Exception {
+    final Path root = Files.createTempDirectory("class-forge-run");
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      ClassForge.newClassBuilder()
+          .setGenerationRun(run)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("RunClass")
+          .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX)
+          .commit() // Version 1.0.0
+          .commit(Change.MAJOR); // Version 2.0.0
+      assertEquals(List.of(), run.pruneStaleOutputs());
+    }
+    assertTrue(Files.exists(classFile(root, "RunClassV1_0_0")));
+
+    // The next run no longer generates `RunClassV1_0_0`
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      ClassForge.newClassBuilder()
+          .setGenerationRun(run)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("RunClass")
+          .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX)
+          .commit(new SemVer(2, 0, 0));
+      assertEquals(List.of(classFile(root, "RunClassV1_0_0")), run.pruneStaleOutputs());
+    }
+    assertEquals(
+        List.of(classFile(root, "RunClassV2_0_0")),
+        ClassForge.getGeneratedOutputs(root.toString()));
+  }
+
+  @Test
+  void testClosingWithoutPruning() throws Exception {
+    final Path root = Files.createTempDirectory("class-forge-run");
+    final GenerationRun run = ClassForge.startRun(root.toString());
+    final Builder<?> builder =
+        ClassForge.newClassBuilder()
+            .setGenerationRun(run)
+            .updatePackageName(PACKAGE_NAME)
+            .updateClassName("ClosedRunClass");
+    run.close();
+    run.close();
+
+    assertFalse(Files.exists(root.resolve(".class-forge-manifest")));
+    final var exception = assertThrows(IllegalStateException.class, run::pruneStaleOutputs);
+    assertEquals("Run of `%s` is closed".formatted(root), exception.getMessage());
+    assertThrows(IllegalStateException.class, builder::commit);
+  }
+
+  @Test
+  void testCommittingToAnotherDirectory() throws Exception {
+    final Path root = Files.createTempDirectory("class-forge-run");
+    final Path otherRoot = Files.createTempDirectory("class-forge-run");
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      final Builder<?> builder =
+          ClassForge.newClassBuilder()
+              .setGenerationRun(run)
+              .updateDirectory(otherRoot.toString())
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName("OtherDirectoryClass");
+      final var exception = assertThrows(IllegalStateException.class, builder::commit);
+      assertEquals(
+          "Directory `%s` is not the directory of the run `%s`".formatted(otherRoot, root),
+          exception.getMessage());
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, Journal.DEFAULT_SNAPSHOT_INTERVAL})
+  void testRetainingClassesRestoredFromJournal(final int snapshotInterval) throws Exception {
+    final Path root = Files.createTempDirectory("class-forge-run");
+    final Path journalDirectory = Files.createTempDirectory("class-forge-journal");
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      ClassForge.openBuilder(ClassType.CLASS, journalDirectory, snapshotInterval)
+          .setGenerationRun(run)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("JournaledRunClass")
+          .commit()
+          .closeJournal();
+      run.pruneStaleOutputs();
+    }
+
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      final Builder<?> builder =
+          ClassForge.openBuilder(ClassType.CLASS, journalDirectory, snapshotInterval)
+              .setGenerationRun(run);
+      builder.closeJournal();
+      assertEquals(List.of(), run.pruneStaleOutputs());
+    }
+    assertTrue(Files.exists(classFile(root, "JournaledRunClass")));
+  }
+
+  @Test
+  void testRetainingClassesRestoredFromSnapshot() throws Exception {
+    final Path root = Files.createTempDirectory("class-forge-run");
+    final Path journalDirectory = Files.createTempDirectory("class-forge-journal");
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      ClassForge.openBuilder(ClassType.CLASS, journalDirectory, 1)
+          .setGenerationRun(run)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("SnapshotRunClass")
+          .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX)
+          .commit() // Version 1.0.0
+          .commit(Change.MAJOR) // Version 2.0.0
+          .closeJournal();
+      run.pruneStaleOutputs();
+    }
+
+    // Resumed from the snapshot, which is compacted again by the next commit
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      ClassForge.openBuilder(ClassType.CLASS, journalDirectory, 1)
+          .setGenerationRun(run)
+          .commit(Change.MAJOR) // Version 3.0.0
+          .closeJournal();
+      assertEquals(List.of(), run.pruneStaleOutputs());
+    }
+    try (final GenerationRun run = ClassForge.startRun(root.toString())) {
+      ClassForge.openBuilder(ClassType.CLASS, journalDirectory, 1)
+          .setGenerationRun(run)
+          .closeJournal();
+      assertEquals(List.of(), run.pruneStaleOutputs());
+    }
+    assertEquals(
+        List.of(
+            classFile(root, "SnapshotRunClassV1_0_0"),
+            classFile(root, "SnapshotRunClassV2_0_0"),
+            classFile(root, "SnapshotRunClassV3_0_0")),
+        ClassForge.getGeneratedOutputs(root.toString()));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertEquals(
+        ExceptionFactory.nullException("directory").getMessage(),
+        assertThrows(IllegalArgumentException.class, () -> ClassForge.startRun(null))
+            .getMessage());
+    assertEquals(
+        ExceptionFactory.nullException("generationRun").getMessage(),
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassForge.newClassBuilder().setGenerationRun(null))
+            .getMessage());
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.DIRECTORY;
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.Builder.Feature;
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge.ClassType;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.internal.Journal;
+import io.github.chrimle.semver.SemVer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class JournalTest {
+
+  private static Path classFile(final String className) {
+    return Path.of(DIRECTORY, PACKAGE_NAME.replace('.', '/'), className + ".java");
+  }
+
+  @Test
+  void testResumingWithoutRegenerating() throws Exception {
+    final Path journalDirectory = Files.createTempDirectory("class-forge-journal");
+    final var enumBuilder =
+        (EnumBuilder) ClassForge.openBuilder(ClassType.ENUM, journalDirectory, 2);
+    enumBuilder
+        .updateDirectory(DIRECTORY)
+        .updatePackageName(PACKAGE_NAME)
+        .updateClassName("JournaledEnum")
+        .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX)
+        .enableFeatures(Feature.JSON_CODEC)
+        .addEnumConstants("FIRST", "SECOND")
+        .commit() // Version 1.0.0
+        .addEnumConstants("THIRD")
+        .commit() // Version 1.1.0, and snapshot
+        .updateEnumConstant("FIRST", "RENAMED")
+        .commit() // Version 2.0.0
+        .addEnumConstants("UNCOMMITTED")
+        .closeJournal();
+    assertTrue(Files.exists(journalDirectory.resolve(Journal.SNAPSHOT_FILE_NAME)));
+    Files.delete(classFile("JournaledEnumV2_0_0"));
+
+    final var resumedEnumBuilder =
+        (EnumBuilder) ClassForge.openBuilder(ClassType.ENUM, journalDirectory, 2);
+    assertEquals(new SemVer(2, 0, 0), resumedEnumBuilder.getSemVer());
+    assertFalse(Files.exists(classFile("JournaledEnumV2_0_0")));
+    assertTrue(resumedEnumBuilder.hasUncommittedChanges());
+    assertThrows(
+        IllegalStateException.class, () -> resumedEnumBuilder.commit(new SemVer(2, 0, 0)));
+
+    resumedEnumBuilder.commit();
+    assertEquals(new SemVer(2, 1, 0), resumedEnumBuilder.getSemVer());
+    final String content = Files.readString(classFile("JournaledEnumV2_1_0"));
+    assertTrue(content.contains("RENAMED"));
+    assertTrue(content.contains("UNCOMMITTED"));
+    assertTrue(content.contains("\"FIRST\""));
+  }
+
+  @Test
+  void testResumingAnotherClassType() throws Exception {
+    final Path journalDirectory = Files.createTempDirectory("class-forge-journal");
+    ClassForge.openBuilder(ClassType.CLASS, journalDirectory).closeJournal();
+    final var exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> ClassForge.openBuilder(ClassType.ENUM, journalDirectory));
+    assertEquals("Journal is not of class type `ENUM`", exception.getMessage());
+  }
+
+  @Test
+  void testOpeningJournalInUse() throws Exception {
+    final Path journalDirectory = Files.createTempDirectory("class-forge-journal");
+    final Builder<?> builder = ClassForge.openBuilder(ClassType.ENUM, journalDirectory);
+    final var exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> ClassForge.openBuilder(ClassType.ENUM, journalDirectory));
+    assertEquals(
+        "Journal `%s` is already in use"
+            .formatted(journalDirectory.resolve(Journal.JOURNAL_FILE_NAME)),
+        exception.getMessage());
+
+    builder.closeJournal();
+    ClassForge.openBuilder(ClassType.ENUM, journalDirectory).closeJournal();
+  }
+
+  @Test
+  void testTruncatingIncompleteTrailingLine() throws Exception {
+    final Path journalDirectory = Files.createTempDirectory("class-forge-journal");
+    ClassForge.openBuilder(ClassType.ENUM, journalDirectory)
+        .updateClassName("TruncatedEnum")
+        .closeJournal();
+    final Path journalFile = journalDirectory.resolve(Journal.JOURNAL_FILE_NAME);
+    final String completeLines = Files.readString(journalFile);
+    Files.writeString(journalFile, completeLines + "3\tclassName\tIncomp");
+
+    final var builder = ClassForge.openBuilder(ClassType.ENUM, journalDirectory);
+    assertEquals(completeLines, Files.readString(journalFile));
+    builder.updatePackageName(PACKAGE_NAME).closeJournal();
+
+    final var resumedBuilder =
+        (EnumBuilder) ClassForge.openBuilder(ClassType.ENUM, journalDirectory);
+    resumedBuilder.closeJournal();
+    assertEquals("TruncatedEnum", resumedBuilder.className);
+    assertEquals(PACKAGE_NAME, resumedBuilder.packageName);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertEquals(
+        ExceptionFactory.nullException("journalDirectory").getMessage(),
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassForge.openBuilder(ClassType.CLASS, null))
+            .getMessage());
+    assertEquals(
+        ExceptionFactory.outOfRangeException("snapshotInterval", "[1, 2147483647]").getMessage(),
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassForge.openBuilder(ClassType.CLASS, Path.of("journal"), 0))
+            .getMessage());
+  }
+}
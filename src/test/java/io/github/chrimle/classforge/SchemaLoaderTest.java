@@ -0,0 +1,155 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.semver.SemVer;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class SchemaLoaderTest {
+
+  @Test
+  void testLoadingEnumSchema() {
+    final List<String> committedClassNames = new ArrayList<>();
+    final var enumBuilder =
+        (EnumBuilder)
+            ClassForge.loadSchema(
+                new StringReader(
+                    """
+                    {
+                      "type": "ENUM",
+                      "packageName": "%s",
+                      "className": "SchemaEnum",
+                      "versionPlacement": "CLASS_NAME_SUFFIX",
+                      "versionFormat": "SHORT",
+                      "features": ["JSON_CODEC"],
+                      "changesets": [
+                        {"addEnumConstants": ["FIRST", "SECOND"]},
+                        {
+                          "updateEnumConstants": {"SECOND": "OTHER"},
+                          "addEnumConstants": ["THIRD"]
+                        },
+                        {"commit": "3.0.0", "removeEnumConstants": ["FIRST"]},
+                        {"addEnumConstants": ["FOURTH"], "commit": "PATCH"}
+                      ]
+                    }
+                    """
+                        .formatted(PACKAGE_NAME)),
+                builder ->
+                    builder.setOutputSink(
+                        (fullyQualifiedClassName, content) ->
+                            committedClassNames.add(fullyQualifiedClassName)));
+
+    assertEquals(
+        List.of(
+            PACKAGE_NAME + ".SchemaEnumV1",
+            PACKAGE_NAME + ".SchemaEnumV2",
+            PACKAGE_NAME + ".SchemaEnumV3",
+            PACKAGE_NAME + ".SchemaEnumV3_0_1"),
+        committedClassNames);
+    assertEquals(new SemVer(3, 0, 1), enumBuilder.getSemVer());
+    assertFalse(enumBuilder.hasUncommittedChanges());
+  }
+
+  @Test
+  void testLoadingLargeSchemaFile() throws Exception {
+    final int enumConstantCount = SchemaLoader.CHUNK_SIZE + 1;
+    final Path schemaFile = Files.createTempFile("class-forge-schema", ".json");
+    final var schema = new StringBuilder();
+    schema
+        .append("{\"type\": \"ENUM\", \"packageName\": \"")
+        .append(PACKAGE_NAME)
+        .append("\", \"className\": \"LargeSchemaEnum\"")
+        .append(", \"changesets\": [{\"addEnumConstants\": [");
+    for (int i = 0; i < enumConstantCount; i++) {
+      schema.append(i == 0 ? "" : ", ").append("\"CONSTANT_").append(i).append('"');
+    }
+    Files.writeString(schemaFile, schema.append("]}]}"));
+
+    final List<String> contents = new ArrayList<>();
+    ClassForge.loadSchema(
+        schemaFile,
+        builder ->
+            builder.setOutputSink(
+                (fullyQualifiedClassName, content) -> contents.add(content)));
+
+    assertEquals(1, contents.size());
+  }
+
+  @Test
+  void testLoadingInvalidSchemas() {
+    final Consumer<Builder<?>> configuration =
+        builder -> builder.setOutputSink((fullyQualifiedClassName, content) -> true);
+    assertInvalidSchema(
+        "Schema member `type` MUST be first at line 1, column 12",
+        "{\"className\": \"Example\", \"type\": \"ENUM\"}",
+        configuration);
+    assertInvalidSchema(
+        ExceptionFactory.notSupportedException("type", "RECORD").getMessage(),
+        "{\"type\": \"RECORD\"}",
+        configuration);
+    assertInvalidSchema(
+        "Changeset member `addEnumConstants` requires `type` ENUM at line 1, column 52",
+        "{\"type\": \"CLASS\", \"changesets\": [{\"addEnumConstants\": [\"A\"]}]}",
+        configuration);
+    assertInvalidSchema(
+        "Malformed JSON: Expected ',' or '}' at line 2, column 1",
+        "{\"type\": \"CLASS\"\n\"className\": \"Example\"}",
+        configuration);
+    assertInvalidSchema(
+        "Malformed JSON: Expected the end of the document at line 1, column 19",
+        "{\"type\": \"CLASS\"} {}",
+        configuration);
+  }
+
+  @Test
+  void testNullArguments() {
+    assertEquals(
+        ExceptionFactory.nullException("schemaFile").getMessage(),
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassForge.loadSchema((Path) null, builder -> {}))
+            .getMessage());
+    assertEquals(
+        ExceptionFactory.nullException("configuration").getMessage(),
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassForge.loadSchema(new StringReader("{}"), null))
+            .getMessage());
+  }
+
+  private static void assertInvalidSchema(
+      final String expectedMessage,
+      final String schema,
+      final Consumer<Builder<?>> configuration) {
+    assertEquals(
+        expectedMessage,
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ClassForge.loadSchema(new StringReader(schema), configuration))
+            .getMessage());
+  }
+}
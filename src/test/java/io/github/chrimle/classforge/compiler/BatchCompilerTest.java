@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class BatchCompilerTest {
+
+  @Test
+  void testCompilingCommittedClasses() throws IOException {
+    final Path classOutputDirectory = Files.createTempDirectory("class-forge-classes");
+    try (final var compiler = new BatchCompiler(classOutputDirectory)) {
+      final var builder =
+          ((EnumBuilder) ClassForge.newEnumBuilder())
+              .setOutputSink(compiler)
+              .updatePackageName(PACKAGE_NAME)
+              .updateClassName("BatchEnum")
+              .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX);
+      for (int i = 0; i < 10; i++) {
+        builder.addEnumConstants("CONSTANT_" + i).commit();
+      }
+
+      assertEquals(10, compiler.compilePending());
+      final Path packageDirectory = classOutputDirectory.resolve(PACKAGE_NAME.replace('.', '/'));
+      assertTrue(Files.isRegularFile(packageDirectory.resolve("BatchEnumV1_0_0.class")));
+      assertTrue(Files.isRegularFile(packageDirectory.resolve("BatchEnumV1_9_0.class")));
+      assertEquals(0, compiler.compilePending());
+    }
+  }
+
+  @Test
+  void testCompilingSourceDirectory() throws IOException {
+    final Path sourceDirectory = Files.createTempDirectory("class-forge-sources");
+    final Path classOutputDirectory = Files.createTempDirectory("class-forge-classes");
+    Files.createDirectories(sourceDirectory.resolve("example"));
+    Files.writeString(
+        sourceDirectory.resolve("example/Referenced.java"),
+        "package example; public enum Referenced { A }");
+    Files.writeString(
+        sourceDirectory.resolve("example/Referencing.java"),
+        "package example; public class Referencing { Referenced value = Referenced.A; }");
+    Files.writeString(sourceDirectory.resolve("example/README.md"), "Not a source file.");
+
+    try (final var compiler = new BatchCompiler(classOutputDirectory)) {
+      assertEquals(2, compiler.compileDirectory(sourceDirectory));
+      assertTrue(Files.isRegularFile(classOutputDirectory.resolve("example/Referenced.class")));
+      assertTrue(Files.isRegularFile(classOutputDirectory.resolve("example/Referencing.class")));
+
+      // Classes compiled in a previous run are on the class path.
+      compiler.write(
+          "example.Later", "package example; class Later { Referenced value = Referenced.A; }");
+      assertEquals(1, compiler.compilePending());
+      assertTrue(Files.isRegularFile(classOutputDirectory.resolve("example/Later.class")));
+    }
+  }
+
+  @Test
+  void testCompilationFailure() throws IOException {
+    try (final var compiler =
+        new BatchCompiler(Files.createTempDirectory("class-forge-classes"))) {
+      compiler.write("Invalid", "class Invalid { int x = \"\"; }");
+      final var exception = assertThrows(IllegalStateException.class, compiler::compilePending);
+      assertTrue(exception.getMessage().startsWith("Compilation failed!"));
+    }
+  }
+
+  @Test
+  void testNullArguments() throws IOException {
+    assertEquals(
+        ExceptionFactory.nullException("classOutputDirectory").getMessage(),
+        assertThrows(IllegalArgumentException.class, () -> new BatchCompiler(null)).getMessage());
+    try (final var compiler =
+        new BatchCompiler(Files.createTempDirectory("class-forge-classes"))) {
+      assertEquals(
+          ExceptionFactory.nullException("sourceFiles").getMessage(),
+          assertThrows(IllegalArgumentException.class, () -> compiler.compile(null))
+              .getMessage());
+      assertEquals(
+          ExceptionFactory.nullException("sourceDirectory").getMessage(),
+          assertThrows(IllegalArgumentException.class, () -> compiler.compileDirectory(null))
+              .getMessage());
+      final List<Path> sourceFiles = new ArrayList<>();
+      sourceFiles.add(null);
+      assertEquals(
+          ExceptionFactory.nullException("sourceFile").getMessage(),
+          assertThrows(IllegalArgumentException.class, () -> compiler.compile(sourceFiles))
+              .getMessage());
+    }
+  }
+}
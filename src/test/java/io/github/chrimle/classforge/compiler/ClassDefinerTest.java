@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class ClassDefinerTest {
+
+  @Test
+  void testDefiningCommittedClasses() throws Exception {
+    final var classDefiner = new ClassDefiner();
+    ((EnumBuilder) ClassForge.newEnumBuilder())
+        .setClassFileSink(classDefiner)
+        .updatePackageName(PACKAGE_NAME)
+        .updateClassName("DefinedEnum")
+        .addEnumConstants("FIRST", "SECOND")
+        .commit();
+    ClassForge.newClassBuilder()
+        .setClassFileSink(classDefiner)
+        .updatePackageName(PACKAGE_NAME)
+        .updateClassName("DefinedClass")
+        .commit();
+
+    assertEquals(
+        List.of(PACKAGE_NAME + ".DefinedEnum", PACKAGE_NAME + ".DefinedClass"),
+        List.copyOf(classDefiner.getDefinedClasses().keySet()));
+    final Class<?> enumClass = classDefiner.getDefinedClass(PACKAGE_NAME + ".DefinedEnum");
+    assertTrue(enumClass.isEnum());
+    assertEquals("[FIRST, SECOND]", Arrays.toString(enumClass.getEnumConstants()));
+    final Class<?> definedClass = classDefiner.getDefinedClass(PACKAGE_NAME + ".DefinedClass");
+    assertNotNull(definedClass.getConstructor().newInstance());
+    assertSame(enumClass.getClassLoader(), definedClass.getClassLoader());
+    assertNotSame(ClassDefinerTest.class.getClassLoader(), definedClass.getClassLoader());
+    assertNull(classDefiner.getDefinedClass(PACKAGE_NAME + ".UndefinedClass"));
+  }
+
+  @Test
+  void testDefiningHiddenClasses() throws Exception {
+    final var classDefiner = ClassDefiner.hidden(MethodHandles.lookup());
+    final String fullyQualifiedClassName = getClass().getPackageName() + ".HiddenClass";
+    ClassForge.newClassBuilder()
+        .setClassFileSink(classDefiner)
+        .updatePackageName(getClass().getPackageName())
+        .updateClassName("HiddenClass")
+        .commit();
+
+    final Class<?> hiddenClass = classDefiner.getDefinedClass(fullyQualifiedClassName);
+    assertTrue(hiddenClass.isHidden());
+    assertNotNull(hiddenClass.getConstructor().newInstance());
+    assertThrows(ClassNotFoundException.class, () -> Class.forName(fullyQualifiedClassName));
+  }
+
+  @Test
+  void testDefiningHiddenClassesInAnotherPackage() {
+    final var classDefiner = ClassDefiner.hidden(MethodHandles.lookup());
+    final var classBuilder =
+        ClassForge.newClassBuilder()
+            .setClassFileSink(classDefiner)
+            .updatePackageName(PACKAGE_NAME)
+            .updateClassName("HiddenClass");
+    final var exception = assertThrows(IllegalStateException.class, classBuilder::commit);
+    assertEquals(
+        "Class `%s.HiddenClass` is not in the package `%s` of the lookup!"
+            .formatted(PACKAGE_NAME, getClass().getPackageName()),
+        exception.getMessage());
+    assertTrue(classDefiner.getDefinedClasses().isEmpty());
+  }
+
+  @Test
+  void testDefiningTwice() {
+    final var classDefiner = new ClassDefiner();
+    ClassForge.newClassBuilder()
+        .setClassFileSink(classDefiner)
+        .updatePackageName(PACKAGE_NAME)
+        .updateClassName("TwiceDefinedClass")
+        .commit();
+    final var exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> classDefiner.write(PACKAGE_NAME + ".TwiceDefinedClass", new byte[0]));
+    assertEquals(
+        "Class `%s.TwiceDefinedClass` has already been defined!".formatted(PACKAGE_NAME),
+        exception.getMessage());
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertEquals(
+        ExceptionFactory.nullException("parent").getMessage(),
+        assertThrows(IllegalArgumentException.class, () -> new ClassDefiner(null)).getMessage());
+    assertEquals(
+        ExceptionFactory.nullException("lookup").getMessage(),
+        assertThrows(IllegalArgumentException.class, () -> ClassDefiner.hidden(null))
+            .getMessage());
+    assertThrows(
+        IllegalArgumentException.class, () -> ClassDefiner.hidden(MethodHandles.publicLookup()));
+  }
+}
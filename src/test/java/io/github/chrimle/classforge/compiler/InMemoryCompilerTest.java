@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.compiler;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.Builder.VersionPlacement;
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class InMemoryCompilerTest {
+
+  @Test
+  void testCompilingCommittedClasses() {
+    try (final var compiler = new InMemoryCompiler()) {
+      ((EnumBuilder) ClassForge.newEnumBuilder())
+          .setOutputSink(compiler)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("InMemoryEnum")
+          .setVersionPlacement(VersionPlacement.CLASS_NAME_SUFFIX)
+          .addEnumConstants("FIRST")
+          .commit() // Version 1.0.0
+          .addEnumConstants("SECOND")
+          .commit(); // Version 1.1.0
+      ClassForge.newClassBuilder()
+          .setOutputSink(compiler)
+          .updatePackageName(PACKAGE_NAME)
+          .updateClassName("InMemoryClass")
+          .commit();
+
+      final Map<String, Class<?>> classes = compiler.compilePending();
+      assertEquals(3, classes.size());
+      final Class<?> enumClass = classes.get(PACKAGE_NAME + ".InMemoryEnumV1_1_0");
+      assertTrue(enumClass.isEnum());
+      assertEquals("[FIRST, SECOND]", Arrays.toString(enumClass.getEnumConstants()));
+      assertSame(compiler.getClassLoader(), enumClass.getClassLoader());
+      assertEquals(Map.of(), compiler.compilePending());
+    }
+  }
+
+  @Test
+  void testReferencingPreviouslyCompiledClasses() throws Exception {
+    try (final var compiler = new InMemoryCompiler()) {
+      compiler.compile(
+          Map.of("example.Referenced", "package example; public enum Referenced { A }"));
+      final Class<?> referencing =
+          compiler
+              .compile(
+                  Map.of(
+                      "example.Referencing",
+                      "package example; public class Referencing {"
+                          + " public Referenced value = Referenced.A; }"))
+              .get("example.Referencing");
+      final Object instance = referencing.getConstructor().newInstance();
+      assertEquals("A", String.valueOf(referencing.getField("value").get(instance)));
+    }
+  }
+
+  @Test
+  void testCompilationFailure() {
+    try (final var compiler = new InMemoryCompiler()) {
+      final var exception =
+          assertThrows(
+              IllegalStateException.class,
+              () -> compiler.compile(Map.of("Invalid", "class Invalid { int x = \"\"; }")));
+      assertTrue(exception.getMessage().startsWith("Compilation failed!"));
+    }
+  }
+
+  @Test
+  void testCompilingTwice() {
+    try (final var compiler = new InMemoryCompiler()) {
+      compiler.compile(Map.of("Twice", "class Twice {}"));
+      final var exception =
+          assertThrows(
+              IllegalStateException.class,
+              () -> compiler.compile(Map.of("Twice", "class Twice {}")));
+      assertEquals("Class `Twice` has already been compiled!", exception.getMessage());
+    }
+  }
+
+  @Test
+  void testNullArguments() {
+    assertEquals(
+        ExceptionFactory.nullException("parent").getMessage(),
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryCompiler(null))
+            .getMessage());
+    try (final var compiler = new InMemoryCompiler()) {
+      assertEquals(
+          ExceptionFactory.nullException("sources").getMessage(),
+          assertThrows(IllegalArgumentException.class, () -> compiler.compile(null)).getMessage());
+    }
+  }
+}
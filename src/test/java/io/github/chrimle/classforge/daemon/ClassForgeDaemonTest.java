@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.daemon;
+
+import static io.github.chrimle.classforge.test.utils.TestConstants.PACKAGE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ClassForgeDaemonTest {
+
+  private static Path writeSchema(final Path directory, final String className) throws IOException {
+    return Files.writeString(
+        directory.resolve(className + ".json"),
+        """
+        {"type": "ENUM", "packageName": "%s", "className": "%s",
+         "changesets": [{"addEnumConstants": ["FIRST", "SECOND"]}]}
+        """
+            .formatted(PACKAGE_NAME, className));
+  }
+
+  private static String generateRequest(
+      final String id, final Path directory, final Path... schemas) {
+    final var request = new StringBuilder();
+    request
+        .append("{\"id\": \"")
+        .append(id)
+        .append("\", \"directory\": \"")
+        .append(directory)
+        .append("\", \"schemas\": [");
+    for (int i = 0; i < schemas.length; i++) {
+      request.append(i == 0 ? "\"" : ", \"").append(schemas[i]).append('"');
+    }
+    return request.append("]}").toString();
+  }
+
+  @Test
+  void testHandlingRequests() throws IOException {
+    final Path directory = Files.createTempDirectory("class-forge-output");
+    final Path schemaDirectory = Files.createTempDirectory("class-forge-schemas");
+    final Path packageDirectory = directory.resolve(PACKAGE_NAME.replace('.', '/'));
+    try (final var daemon = new ClassForgeDaemon(2)) {
+      final String response =
+          daemon.handle(
+              generateRequest("1", directory, writeSchema(schemaDirectory, "DaemonEnum")));
+      assertTrue(
+          response.startsWith("{\"id\":\"1\",\"status\":\"OK\",\"schemas\":1,\"pruned\":0,"),
+          response);
+      assertTrue(Files.isRegularFile(packageDirectory.resolve("DaemonEnum.java")));
+
+      // A subsequent request is a new run.
+      assertTrue(
+          daemon
+              .handle(generateRequest("2", directory, writeSchema(schemaDirectory, "Renamed")))
+              .startsWith("{\"id\":\"2\",\"status\":\"OK\",\"schemas\":1,\"pruned\":1,"));
+      assertFalse(Files.exists(packageDirectory.resolve("DaemonEnum.java")));
+      assertTrue(Files.isRegularFile(packageDirectory.resolve("Renamed.java")));
+    }
+  }
+
+  @Test
+  void testHandlingInvalidRequests() {
+    try (final var daemon = new ClassForgeDaemon(1)) {
+      assertEquals(
+          "{\"status\":\"ERROR\","
+              + "\"message\":\"Malformed JSON: Expected a name at line 1, column 2\"}",
+          daemon.handle("{id: 1}"));
+      assertEquals(
+          "{\"id\":\"1\",\"status\":\"ERROR\",\"message\":\"%s\"}"
+              .formatted(ExceptionFactory.nullException("directory").getMessage()),
+          daemon.handle("{\"id\": \"1\"}"));
+      assertEquals(
+          "{\"id\":\"2\",\"status\":\"ERROR\",\"message\":\"%s\"}"
+              .formatted(ExceptionFactory.notSupportedException("command", "run").getMessage()),
+          daemon.handle("{\"id\": \"2\", \"command\": \"run\"}"));
+      assertEquals(
+          ExceptionFactory.outOfRangeException("threads", "[1, %d]".formatted(Integer.MAX_VALUE))
+              .getMessage(),
+          assertThrows(IllegalArgumentException.class, () -> new ClassForgeDaemon(0))
+              .getMessage());
+    }
+  }
+
+  @Test
+  void testServingStreams() throws IOException {
+    final Path schemaDirectory = Files.createTempDirectory("class-forge-schemas");
+    final String requests =
+        generateRequest(
+                "1",
+                Files.createTempDirectory("class-forge-output"),
+                writeSchema(schemaDirectory, "FirstStreamEnum"))
+            + "\n\n"
+            + generateRequest(
+                "2",
+                Files.createTempDirectory("class-forge-output"),
+                writeSchema(schemaDirectory, "SecondStreamEnum"))
+            + "\n";
+    final var out = new ByteArrayOutputStream();
+    try (final var daemon = new ClassForgeDaemon(2)) {
+      daemon.serve(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)), out);
+    }
+
+    final List<String> responses = out.toString(StandardCharsets.UTF_8).lines().sorted().toList();
+    assertEquals(2, responses.size());
+    assertTrue(responses.get(0).startsWith("{\"id\":\"1\",\"status\":\"OK\""));
+    assertTrue(responses.get(1).startsWith("{\"id\":\"2\",\"status\":\"OK\""));
+  }
+
+  @Test
+  void testShuttingDownWhileServingOpenStream() throws Exception {
+    final var in = new PipedInputStream();
+    final var out = new ByteArrayOutputStream();
+    try (final var requests = new PipedOutputStream(in);
+        final var daemon = new ClassForgeDaemon(1)) {
+      requests.write(
+          "{\"id\": \"shutdown\", \"command\": \"shutdown\"}\n".getBytes(StandardCharsets.UTF_8));
+      requests.flush();
+
+      // The stream is still open, hence the daemon stops without reading to its end.
+      assertTimeoutPreemptively(Duration.ofSeconds(10), () -> daemon.serve(in, out));
+    }
+    assertEquals("{\"id\":\"shutdown\",\"status\":\"OK\"}\n", out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testServingConcurrentConnections() throws Exception {
+    final Path socketFile = Files.createTempDirectory("class-forge-daemon").resolve("daemon.sock");
+    final Path schemaDirectory = Files.createTempDirectory("class-forge-schemas");
+    final ExecutorService clients = Executors.newFixedThreadPool(4);
+    try (final var daemon = new ClassForgeDaemon(4)) {
+      final Future<?> server =
+          clients.submit(
+              () -> {
+                daemon.serve(socketFile);
+                return null;
+              });
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (!Files.exists(socketFile)) {
+        if (server.isDone()) {
+          server.get();
+          fail("Daemon stopped before binding `%s`".formatted(socketFile));
+        }
+        if (System.nanoTime() - deadline > 0) {
+          fail("Daemon did not bind `%s` within 10 seconds".formatted(socketFile));
+        }
+        Thread.sleep(10);
+      }
+      assertEquals(
+          PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(socketFile));
+
+      final List<Future<String>> responses = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        final String request =
+            generateRequest(
+                String.valueOf(i),
+                Files.createTempDirectory("class-forge-output"),
+                writeSchema(schemaDirectory, "ConnectionEnum" + i));
+        responses.add(clients.submit(() -> send(socketFile, request)));
+      }
+      for (int i = 0; i < 3; i++) {
+        assertTrue(
+            responses.get(i).get().startsWith("{\"id\":\"%d\",\"status\":\"OK\"".formatted(i)));
+      }
+
+      assertEquals(
+          "{\"id\":\"shutdown\",\"status\":\"OK\"}",
+          send(socketFile, "{\"id\": \"shutdown\", \"command\": \"shutdown\"}"));
+      server.get();
+      assertFalse(Files.exists(socketFile));
+    } finally {
+      clients.shutdownNow();
+    }
+  }
+
+  private static String send(final Path socketFile, final String request) throws IOException {
+    try (final SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+      channel.connect(UnixDomainSocketAddress.of(socketFile));
+      final OutputStream out = Channels.newOutputStream(channel);
+      out.write((request + "\n").getBytes(StandardCharsets.UTF_8));
+      out.flush();
+      return new BufferedReader(
+              new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8))
+          .readLine();
+    }
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.Model;
+import io.github.chrimle.classforge.classes.ClassModel;
+import io.github.chrimle.classforge.compiler.InMemoryCompiler;
+import io.github.chrimle.classforge.enums.EnumModel;
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ClassFileEmitterTest {
+
+  private static EnumModel<Object> enumModel(final String className, final int enumConstantCount) {
+    final List<EnumConstantModel<Object>> enumConstants = new ArrayList<>();
+    for (int i = 0; i < enumConstantCount; i++) {
+      enumConstants.add(new EnumConstantModel<>("CONSTANT_" + i, List.of(), i));
+    }
+    return new EnumModel<>("example.emitted", className, enumConstants, List.of());
+  }
+
+  @Test
+  void testEmittedClassIsEquivalentToCompiledClass() throws Exception {
+    assertEquivalent(new ClassModel("example.emitted", "EmittedClass"));
+    assertEquivalent(new ClassModel(null, "EmittedClassWithoutPackage"));
+  }
+
+  @Test
+  void testEmittedEnumIsEquivalentToCompiledEnum() throws Exception {
+    assertEquivalent(enumModel("EmptyEmittedEnum", 0));
+    assertEquivalent(enumModel("SmallEmittedEnum", 3));
+    // Exceeds `bipush`, and the 8-bit constant pool index of `ldc`.
+    assertEquivalent(enumModel("LargeEmittedEnum", 300));
+  }
+
+  @Test
+  void testEmittedEnumIsUsable() throws Exception {
+    final Class<?> enumClass = load(enumModel("UsableEmittedEnum", 300));
+    final Object[] enumConstants = enumClass.getEnumConstants();
+    assertEquals(300, enumConstants.length);
+    assertEquals("CONSTANT_299", enumConstants[299].toString());
+    assertEquals(299, ((Enum<?>) enumConstants[299]).ordinal());
+    final Method valueOf = enumClass.getMethod("valueOf", String.class);
+    assertSame(enumConstants[42], valueOf.invoke(null, "CONSTANT_42"));
+    assertNotSame(enumConstants, enumClass.getMethod("values").invoke(null));
+  }
+
+  @Test
+  void testUnsupportedModels() {
+    final var enumWithMembers = new EnumModel<>("example", "Example", List.of(), List.of("int a;"));
+    assertFalse(ClassFileEmitter.isSupported(enumWithMembers));
+    assertThrows(IllegalArgumentException.class, () -> ClassFileEmitter.emit(enumWithMembers));
+  }
+
+  @Test
+  void testClassFileVersion() {
+    final byte[] classFile = ClassFileEmitter.emit(new ClassModel(null, "Example"));
+    final var buffer = ByteBuffer.wrap(classFile);
+    assertEquals(0xCAFEBABE, buffer.getInt());
+    assertEquals(0, buffer.getShort()); // minor_version
+    assertEquals(61, buffer.getShort()); // major_version of Java 17
+  }
+
+  private static void assertEquivalent(final Model model) throws Exception {
+    final String fullyQualifiedClassName = fullyQualifiedClassName(model);
+    final Class<?> compiled;
+    try (final var compiler = new InMemoryCompiler()) {
+      compiled =
+          compiler
+              .compile(
+                  Map.of(
+                      fullyQualifiedClassName,
+                      JavaTemplateEngine.generateModelAsString(model).toString()))
+              .get(fullyQualifiedClassName);
+    }
+    assertEquals(describe(compiled), describe(load(model)));
+  }
+
+  private static Class<?> load(final Model model) throws ClassNotFoundException {
+    final byte[] classFile = ClassFileEmitter.emit(model);
+    final String fullyQualifiedClassName = fullyQualifiedClassName(model);
+    final var classLoader =
+        new ClassLoader(ClassFileEmitterTest.class.getClassLoader()) {
+          @Override
+          protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            if (!name.equals(fullyQualifiedClassName)) {
+              throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, classFile, 0, classFile.length);
+          }
+        };
+    return Class.forName(fullyQualifiedClassName, true, classLoader);
+  }
+
+  private static String fullyQualifiedClassName(final Model model) {
+    final String packageName;
+    final String className;
+    if (model instanceof EnumModel<?> enumModel) {
+      packageName = enumModel.packageName();
+      className = enumModel.className();
+    } else {
+      packageName = ((ClassModel) model).packageName();
+      className = ((ClassModel) model).className();
+    }
+    return packageName == null ? className : packageName + "." + className;
+  }
+
+  private static String describe(final Class<?> clazz) {
+    final var members = new TreeSet<String>();
+    Stream.of(clazz.getDeclaredFields())
+        .forEach(
+            field ->
+                members.add(
+                    describe(field)
+                        + field.getGenericType().getTypeName()
+                        + " "
+                        + field.getName()));
+    Stream.of(clazz.getDeclaredMethods())
+        .forEach(
+            method ->
+                members.add(
+                    describe(method)
+                        + method.getGenericReturnType().getTypeName()
+                        + " "
+                        + method.getName()
+                        + Arrays.toString(method.getGenericParameterTypes())));
+    Stream.of(clazz.getDeclaredConstructors())
+        .forEach(
+            constructor ->
+                members.add(
+                    describe(constructor)
+                        + "<init>"
+                        + Arrays.toString(constructor.getGenericParameterTypes())));
+    return Modifier.toString(clazz.getModifiers())
+        + " "
+        + clazz.getName()
+        + " extends "
+        + clazz.getGenericSuperclass().getTypeName()
+        + " implements "
+        + Arrays.toString(clazz.getGenericInterfaces())
+        + " enum="
+        + clazz.isEnum()
+        + " "
+        + Arrays.toString(clazz.getEnumConstants())
+        + " "
+        + members;
+  }
+
+  private static String describe(final Member member) {
+    return Modifier.toString(member.getModifiers()) + (member.isSynthetic() ? " synthetic " : " ");
+  }
+}
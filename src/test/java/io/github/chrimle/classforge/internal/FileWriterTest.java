@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FileWriterTest {
+
+  @Test
+  void testSkippingUnchangedFiles() throws IOException {
+    final Path file = Files.createTempDirectory("class-forge-output").resolve("Example.java");
+    assertTrue(FileWriter.writeToFile(file, "class Example {}"));
+    assertFalse(FileWriter.writeToFile(file, "class Example {}"));
+    assertTrue(FileWriter.writeToFile(file, "class Example { }"));
+    assertEquals("class Example { }", Files.readString(file));
+  }
+
+  @Test
+  void testWritingAfterDirectoryWasDeleted() throws IOException {
+    final Path directory = Files.createTempDirectory("class-forge-output").resolve("example");
+    final Path file = directory.resolve("Example.java");
+    assertTrue(FileWriter.writeToFile(file, "class Example {}"));
+    Files.delete(file);
+    Files.delete(directory);
+
+    assertTrue(FileWriter.writeToFile(file, "class Example {}"));
+    assertEquals("class Example {}", Files.readString(file));
+  }
+
+  @Test
+  void testReadingMissingManifest() throws IOException {
+    final Path root = Files.createTempDirectory("class-forge-output");
+    assertEquals(List.of(), FileWriter.readManifest(root.toString()));
+  }
+
+  @Test
+  void testPruningStaleFiles() throws IOException {
+    final Path root = Files.createTempDirectory("class-forge-output");
+    final String directory = root.toString();
+    final Path handWrittenFile = root.resolve("HandWritten.java");
+    Files.writeString(handWrittenFile, "class HandWritten {}");
+
+    FileWriter.writeToFile(directory, "example.v1.Example", "class Example {}");
+    FileWriter.writeToFile(directory, "example.v2.Example", "class Example {}");
+    FileWriter.writeToFile(directory, "Kept", "class Kept {}");
+    assertEquals(
+        List.of(),
+        FileWriter.pruneStaleFiles(
+            root, Set.of("example/v1/Example.java", "example/v2/Example.java", "Kept.java")));
+    assertEquals(
+        List.of("Kept.java", "example/v1/Example.java", "example/v2/Example.java"),
+        Files.readAllLines(root.resolve(FileWriter.MANIFEST_FILE_NAME)));
+
+    // The next run no longer produces `example.v1.Example`
+    assertEquals(
+        List.of(root.resolve("example/v1/Example.java")),
+        FileWriter.pruneStaleFiles(root, Set.of("example/v2/Example.java", "Kept.java")));
+    assertEquals(
+        List.of(root.resolve("Kept.java"), root.resolve("example/v2/Example.java")),
+        FileWriter.readManifest(directory));
+    assertFalse(Files.exists(root.resolve("example/v1")));
+    assertTrue(Files.exists(root.resolve("example/v2/Example.java")));
+    assertTrue(Files.exists(root.resolve("Kept.java")));
+    assertTrue(Files.exists(handWrittenFile));
+  }
+}
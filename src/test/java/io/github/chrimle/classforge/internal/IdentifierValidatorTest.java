@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.ClassForge;
+import io.github.chrimle.classforge.EnumBuilder;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class IdentifierValidatorTest {
+
+  /** Characters of which random identifiers are composed, including invalid ones. */
+  private static final char[] ALPHABET = "Aa Zz09_._$\n-\u00e9".toCharArray();
+
+  static Stream<String> identifiers() {
+    return Stream.of(
+        "",
+        " ",
+        "_",
+        "__",
+        "_1",
+        "__a",
+        "1a",
+        "A",
+        "a",
+        "Example",
+        "example",
+        "Example_1",
+        "Example\n",
+        "Exa mple",
+        "Exa$mple",
+        "\u00c9xample",
+        "io.github",
+        "io..github",
+        ".io",
+        "io.",
+        "io.github.v1_2_3",
+        "io.github.1",
+        "CONSTANT_VALUE",
+        "_CONSTANT",
+        "class");
+  }
+
+  @ParameterizedTest
+  @MethodSource("identifiers")
+  void testIdentifiersMatchRegEx(final String identifier) {
+    assertMatchesRegEx(identifier);
+  }
+
+  @Test
+  void testRandomIdentifiersMatchRegEx() {
+    final var random = new Random(42);
+    for (int i = 0; i < 100_000; i++) {
+      final var identifier = new StringBuilder();
+      final int length = random.nextInt(8);
+      for (int j = 0; j < length; j++) {
+        identifier.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+      }
+      assertMatchesRegEx(identifier.toString());
+    }
+  }
+
+  @Test
+  void testNullIdentifiers() {
+    assertFalse(IdentifierValidator.isValidClassName(null));
+    assertFalse(IdentifierValidator.isValidPackageName(null));
+    assertFalse(IdentifierValidator.isValidEnumConstantName(null));
+  }
+
+  @Test
+  void testReservedKeywords() {
+    ClassForge.RESERVED_KEYWORDS.forEach(
+        keyword -> assertTrue(IdentifierValidator.isReservedKeyword(keyword)));
+    assertFalse(IdentifierValidator.isReservedKeyword("Example"));
+  }
+
+  private static void assertMatchesRegEx(final String identifier) {
+    assertEquals(
+        identifier.matches(ClassForge.VALID_CLASS_NAME_REGEX),
+        IdentifierValidator.isValidClassName(identifier),
+        () -> "className: `%s`".formatted(identifier));
+    assertEquals(
+        identifier.matches(ClassForge.VALID_PACKAGE_NAME_REGEX),
+        IdentifierValidator.isValidPackageName(identifier),
+        () -> "packageName: `%s`".formatted(identifier));
+    assertEquals(
+        identifier.matches(EnumBuilder.VALID_ENUM_CONSTANT_NAME_REGEX),
+        IdentifierValidator.isValidEnumConstantName(identifier),
+        () -> "enumConstantName: `%s`".formatted(identifier));
+  }
+}
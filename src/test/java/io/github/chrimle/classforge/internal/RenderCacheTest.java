@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.classes.ClassModel;
+import io.github.chrimle.classforge.enums.EnumModel;
+import io.github.chrimle.classforge.enums.EnumModel.EnumConstantModel;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RenderCacheTest {
+
+  private static EnumModel<Object> enumModel(final List<String> previousNames, final int wireId) {
+    return new EnumModel<>(
+        "example",
+        "Example",
+        List.of(new EnumConstantModel<>("CONSTANT", previousNames, wireId)),
+        List.of());
+  }
+
+  @Test
+  void testEqualModelsHaveEqualKeys() {
+    assertEquals(
+        RenderCache.key(new ClassModel("example", "Example")),
+        RenderCache.key(new ClassModel("example", "Example")));
+    assertEquals(
+        RenderCache.key(enumModel(List.of("OLD"), 1)),
+        RenderCache.key(enumModel(List.of("OLD"), 1)));
+  }
+
+  @Test
+  void testDifferentModelsHaveDifferentKeys() {
+    final String key = RenderCache.key(enumModel(List.of("OLD"), 1));
+    assertNotEquals(key, RenderCache.key(enumModel(List.of(), 1)));
+    assertNotEquals(key, RenderCache.key(enumModel(List.of("OLD"), 2)));
+    assertNotEquals(
+        RenderCache.key(new ClassModel("example", "Example")),
+        RenderCache.key(new EnumModel<>("example", "Example", List.of(), List.of())));
+    assertNotEquals(
+        RenderCache.key(new EnumModel<>(null, "Example", List.of(), List.of("a", "b"))),
+        RenderCache.key(new EnumModel<>(null, "Example", List.of(), List.of("ab"))));
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.semver.SemVer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SemVerParserTest {
+
+  @Test
+  void testParsingCompleteVersionString() {
+    final var semVer = new SemVer(1, 22, 333);
+    assertEquals(semVer, SemVerParser.parse(semVer.toCompleteVersionString()));
+    assertEquals(semVer, SemVerParser.parse("1.22.333"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "v", "1.2", "1.2.3.4", "v1.2.x", "V1.2.3", "1.2.3 ", "1234567890.0.0"})
+  void testParsingMalformedVersionString(final String semVer) {
+    assertNull(SemVerParser.parse(semVer));
+  }
+
+  @Test
+  void testVersionParts() {
+    assertArrayEquals(new int[] {1, 22, 333}, SemVerParser.versionParts(new SemVer(1, 22, 333)));
+  }
+}
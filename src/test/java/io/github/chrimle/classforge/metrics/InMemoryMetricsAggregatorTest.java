@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.chrimle.classforge.internal.ExceptionFactory;
+import io.github.chrimle.classforge.metrics.GenerationMetrics.Phase;
+import io.github.chrimle.semver.SemVer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@SuppressWarnings({"DataFlowIssue", "NullAway"})
+class InMemoryMetricsAggregatorTest {
+
+  private static GenerationMetrics metrics(final long nanos, final boolean writeSkipped) {
+    return new GenerationMetrics(
+        "Example", new SemVer(1, 0, 0), nanos, nanos, nanos, nanos, writeSkipped);
+  }
+
+  @Test
+  void testEmptyAggregator() {
+    final var aggregator = new InMemoryMetricsAggregator();
+    assertEquals(0, aggregator.count());
+    assertEquals(0, aggregator.percentileNanos(Phase.TOTAL, 50));
+    assertEquals(0, aggregator.percentileOutputBytes(50));
+  }
+
+  @Test
+  void testPercentiles() {
+    final var aggregator = new InMemoryMetricsAggregator();
+    for (int i = 100; i >= 1; i--) {
+      aggregator.onCommit(metrics(i, i % 10 == 0));
+    }
+    assertEquals(100, aggregator.count());
+    assertEquals(10, aggregator.skippedWriteCount());
+    assertEquals(1, aggregator.percentileNanos(Phase.VALIDATION, 1));
+    assertEquals(50, aggregator.percentileNanos(Phase.RENDER, 50));
+    assertEquals(99, aggregator.percentileNanos(Phase.WRITE, 99));
+    assertEquals(300, aggregator.percentileNanos(Phase.TOTAL, 100));
+    assertEquals(95, aggregator.percentileOutputBytes(95));
+  }
+
+  @Test
+  void testBoundedSamples() {
+    final var aggregator = new InMemoryMetricsAggregator();
+    final int count = InMemoryMetricsAggregator.MAX_SAMPLES * 4;
+    for (int i = 1; i <= count; i++) {
+      aggregator.onCommit(metrics(i, false));
+    }
+    assertEquals(count, aggregator.count());
+    final long median = aggregator.percentileNanos(Phase.VALIDATION, 50);
+    assertTrue(Math.abs(median - count / 2) < count / 10, "Median: " + median);
+    assertTrue(aggregator.percentileNanos(Phase.VALIDATION, 100) <= count);
+  }
+
+  @Test
+  void testReset() {
+    final var aggregator = new InMemoryMetricsAggregator();
+    aggregator.onCommit(metrics(1, true));
+    aggregator.reset();
+    assertEquals(0, aggregator.count());
+    assertEquals(0, aggregator.skippedWriteCount());
+    assertEquals(0, aggregator.percentileNanos(Phase.TOTAL, 100));
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-1, 0, 100.5, Double.NaN})
+  void testInvalidPercentile(final double percentile) {
+    final var aggregator = new InMemoryMetricsAggregator();
+    final var exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> aggregator.percentileNanos(Phase.TOTAL, percentile));
+    assertEquals(
+        ExceptionFactory.outOfRangeException("percentile", "(0, 100]").getMessage(),
+        exception.getMessage());
+  }
+
+  @Test
+  void testNullPhase() {
+    final var aggregator = new InMemoryMetricsAggregator();
+    final var exception =
+        assertThrows(IllegalArgumentException.class, () -> aggregator.percentileNanos(null, 50));
+    assertEquals(ExceptionFactory.nullException("phase").getMessage(), exception.getMessage());
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025-2026 Chrimle
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.chrimle.classforge.processing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+class ClassForgeProcessorTest {
+
+  @Test
+  void testGeneratingDeclaredClasses() throws IOException, URISyntaxException {
+    final Path sourceOutputDirectory = Files.createTempDirectory("class-forge-sources");
+    final Path classOutputDirectory = Files.createTempDirectory("class-forge-classes");
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+    final boolean success =
+        compile(
+            """
+            package example;
+
+            import io.github.chrimle.classforge.Builder.VersionPlacement;
+            import io.github.chrimle.classforge.processing.ForgeClass;
+            import io.github.chrimle.classforge.processing.ForgeEnum;
+
+            @ForgeClass(packageName = "example.generated", className = "GeneratedClass")
+            @ForgeEnum(
+                packageName = "example.generated",
+                className = "GeneratedEnum",
+                enumConstants = {"FIRST", "SECOND"},
+                versionPlacement = VersionPlacement.CLASS_NAME_SUFFIX)
+            @ForgeEnum(packageName = "example.generated", className = "OtherEnum")
+            final class Definitions {}
+            """,
+            sourceOutputDirectory,
+            classOutputDirectory,
+            diagnostics);
+
+    assertTrue(success, () -> diagnostics.getDiagnostics().toString());
+    final Path sourceDirectory = sourceOutputDirectory.resolve("example/generated");
+    assertTrue(Files.isRegularFile(sourceDirectory.resolve("GeneratedClass.java")));
+    assertTrue(Files.isRegularFile(sourceDirectory.resolve("GeneratedEnumV1_0_0.java")));
+    assertTrue(Files.isRegularFile(sourceDirectory.resolve("OtherEnum.java")));
+    // Generated sources are compiled in the same invocation.
+    final Path classDirectory = classOutputDirectory.resolve("example/generated");
+    assertTrue(Files.isRegularFile(classDirectory.resolve("GeneratedClass.class")));
+    assertTrue(Files.isRegularFile(classDirectory.resolve("GeneratedEnumV1_0_0.class")));
+  }
+
+  @Test
+  void testReportingInvalidDeclarations() throws IOException, URISyntaxException {
+    final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+
+    final boolean success =
+        compile(
+            """
+            package example;
+
+            import io.github.chrimle.classforge.processing.ForgeEnum;
+
+            @ForgeEnum(
+                packageName = "example.generated",
+                className = "InvalidEnum",
+                enumConstants = {"VALID", "VALID"})
+            final class Definitions {}
+            """,
+            Files.createTempDirectory("class-forge-sources"),
+            Files.createTempDirectory("class-forge-classes"),
+            diagnostics);
+
+    assertFalse(success);
+    assertTrue(
+        diagnostics.getDiagnostics().stream()
+            .anyMatch(
+                diagnostic ->
+                    diagnostic
+                        .getMessage(null)
+                        .startsWith("Class `InvalidEnum` could not be generated")));
+  }
+
+  private static boolean compile(
+      final String source,
+      final Path sourceOutputDirectory,
+      final Path classOutputDirectory,
+      final DiagnosticCollector<JavaFileObject> diagnostics)
+      throws URISyntaxException {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final String classPath =
+        Path.of(ForgeClass.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+            .toString();
+    final JavaFileObject sourceFile =
+        new SimpleJavaFileObject(
+            Path.of("example/Definitions.java").toUri(), JavaFileObject.Kind.SOURCE) {
+          @Override
+          public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+          }
+        };
+    final JavaCompiler.CompilationTask task =
+        compiler.getTask(
+            null,
+            null,
+            diagnostics,
+            List.of(
+                "-classpath",
+                classPath,
+                "-s",
+                sourceOutputDirectory.toString(),
+                "-d",
+                classOutputDirectory.toString()),
+            null,
+            List.of(sourceFile));
+    task.setProcessors(List.of(new ClassForgeProcessor()));
+    return task.call();
+  }
+}